@@ -0,0 +1,73 @@
+package benchmarks;
+
+import structures.LinkedList;
+
+/**
+ *  Measures the heap taken per element by a singly linked, a doubly
+ *  linked and an indexed {@link LinkedList}.  The elements themselves
+ *  are created up front so only the nodes and the index are counted.
+ *
+ *  Run with a fixed heap for steadier figures, e.g.
+ *  <pre>
+ *  java -Xms2g -Xmx2g -cp ... benchmarks.IndexFootprint 1000000
+ *  </pre>
+ */
+public final class IndexFootprint
+{
+    private IndexFootprint()
+    {
+    }
+
+    /**
+     *  @param args optionally the number of elements, one million by default
+     */
+    public static void main(String[] args)
+    {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : 1000000;
+        Object[] elements = Workload.elements("Integer", size);
+
+        System.out.printf("%-8s %12s%n", "mode", "bytes/elem");
+        for(String mode : new String[] {"singly", "doubly", "indexed"})
+        {
+            long before = usedHeap();
+            LinkedList<Object> list = newList(mode);
+
+            for(Object element : elements)
+            {
+                list.addLast(element);
+            }
+
+            long after = usedHeap();
+            System.out.printf("%-8s %12.1f%n", mode, (after - before) / (double) size);
+
+            if(list.size() != size)
+            {
+                throw new IllegalStateException("List lost elements");
+            }
+        }
+    }
+
+    private static LinkedList<Object> newList(String mode)
+    {
+        if("indexed".equals(mode))
+        {
+            return LinkedList.indexed();
+        }
+        else if("doubly".equals(mode))
+        {
+            return LinkedList.doublyLinked();
+        }
+        return new LinkedList<Object>();
+    }
+
+    private static long usedHeap()
+    {
+        Runtime runtime = Runtime.getRuntime();
+
+        for(int i = 0; i < 3; i++)
+        {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,226 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import structures.LinkedList;
+
+/**
+ *  JMH benchmarks for every public operation of {@link LinkedList}.
+ *
+ *  Each benchmark is measured as sampled time, which gives the mean time
+ *  per operation, whose reciprocal is the throughput, together with the
+ *  p50/p90/p99/p99.9 latency percentiles.  Running
+ *  through {@link #main} also attaches the GC profiler so the allocation
+ *  rate per operation (gc.alloc.rate.norm) is reported.
+ *
+ *  Operations that change the list are paired with the operation that
+ *  undoes them so the size stays fixed for the whole trial:
+ *  <pre>
+ *  addFirst      addFirst + removeFirst
+ *  addLast       addLast + removeFirst
+ *  removeFirst   removeFirst + addLast (rotates the list)
+ *  removeLast    removeLast + addFirst (rotates the list)
+ *  remove        remove + insertBefore back into the same position
+ *  insertBefore  insertBefore + remove of the inserted datum
+ *  </pre>
+ *
+ *  The largest sizes take a long time to set up and to scan, so narrow
+ *  them on the command line when only a quick run is wanted, e.g.
+ *  <pre>
+ *  java -cp ... benchmarks.LinkedListBenchmark -p size=10,1000 LinkedListBenchmark.contains
+ *  </pre>
+ *  Without a benchmark named on the command line main runs every one in
+ *  this class.  bench/pom.xml builds all of the benchmarks into one
+ *  runnable jar:
+ *  <pre>
+ *  mvn -f bench/pom.xml package
+ *  java -jar bench/target/benchmarks.jar
+ *  </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedListBenchmark
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"Integer", "Long", "String"})
+    private String type;
+
+    @Param({"uniform", "head", "tail"})
+    private String distribution;
+
+    @Param({"singly", "doubly"})
+    private String linkage;
+
+    private LinkedList<Object> myList;
+    private Object[] myElements;
+    private int[] myPositions;
+    private Object myExtra;
+    private int myCursor;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    @Setup
+    public void setUp()
+    {
+        if("doubly".equals(linkage))
+        {
+            myList = LinkedList.doublyLinked();
+        }
+        else
+        {
+            myList = new LinkedList<Object>();
+        }
+
+        myElements = Workload.elements(type, size);
+        for(Object element : myElements)
+        {
+            myList.addLast(element);
+        }
+
+        myPositions = Workload.positions(distribution, size);
+        myExtra = Workload.element(type, size);
+        myCursor = 0;
+    }
+
+    /**
+     *  @return the next position drawn from the access distribution
+     */
+    private int nextPosition()
+    {
+        myCursor = (myCursor + 1) & (Workload.POSITIONS - 1);
+        return myPositions[myCursor];
+    }
+
+    @Benchmark
+    public Object addFirst()
+    {
+        myList.addFirst(myExtra);
+        return myList.removeFirst();
+    }
+
+    @Benchmark
+    public Object addLast()
+    {
+        myList.addLast(myExtra);
+        return myList.removeFirst();
+    }
+
+    @Benchmark
+    public Object removeFirst()
+    {
+        Object first = myList.removeFirst();
+        myList.addLast(first);
+        return first;
+    }
+
+    @Benchmark
+    public Object removeLast()
+    {
+        Object last = myList.removeLast();
+        myList.addFirst(last);
+        return last;
+    }
+
+    @Benchmark
+    public Object getLast()
+    {
+        return myList.getLast();
+    }
+
+    @Benchmark
+    public boolean contains()
+    {
+        return myList.contains(myElements[nextPosition()]);
+    }
+
+    @Benchmark
+    public int indexOf()
+    {
+        return myList.indexOf(myElements[nextPosition()]);
+    }
+
+    @Benchmark
+    public boolean remove()
+    {
+        int position = nextPosition();
+        boolean removed = myList.remove(myElements[position]);
+
+        if(position == 0)
+        {
+            myList.addFirst(myElements[position]);
+        }
+        else
+        {
+            myList.insertBefore(myElements[position], myElements[position - 1]);
+        }
+        return removed;
+    }
+
+    @Benchmark
+    public boolean insertBefore()
+    {
+        boolean inserted = myList.insertBefore(myExtra, myElements[nextPosition()]);
+
+        myList.remove(myExtra);
+        return inserted;
+    }
+
+    @Benchmark
+    public String renderToString()
+    {
+        return myList.toString();
+    }
+
+    /**
+     *  Runs the benchmarks with the GC profiler attached; any standard
+     *  JMH command line options may be passed in
+     *
+     *  @param args JMH command line options
+     *
+     *  @throws Exception if the options are invalid or the run fails
+     */
+    public static void main(String[] args) throws Exception
+    {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        Options options;
+
+        builder.parent(commandLine).addProfiler(GCProfiler.class);
+        if(commandLine.getIncludes().isEmpty())
+        {
+            builder.include(Pattern.quote(LinkedListBenchmark.class.getName() + "."));
+        }
+        options = builder.build();
+
+        new Runner(options).run();
+    }
+}
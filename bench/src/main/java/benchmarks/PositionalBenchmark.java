@@ -0,0 +1,122 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import structures.LinkedList;
+
+/**
+ *  JMH benchmarks for positional access to a {@link LinkedList}.  The
+ *  positions are visited in one of three patterns:
+ *
+ *  <pre>
+ *  sequential  0, 1, 2, ... wrapping at the end of the list
+ *  strided     0, 16, 32, ... wrapping at the end of the list
+ *  random      uniformly drawn positions
+ *  </pre>
+ *
+ *  Sequential and strided access walk a short way from the finger left
+ *  by the previous call, while random access walks from the nearest of
+ *  the head, the finger and, if doubly linked, the tail.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PositionalBenchmark
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Distance between the positions visited by the strided pattern. */
+    private static final int STRIDE = 16;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"sequential", "strided", "random"})
+    private String pattern;
+
+    @Param({"singly", "doubly"})
+    private String linkage;
+
+    private LinkedList<Object> myList;
+    private int[] myPositions;
+    private int myCursor;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(42);
+
+        myList = "doubly".equals(linkage) ? LinkedList.doublyLinked() : new LinkedList<Object>();
+        for(Object element : Workload.elements("Integer", size))
+        {
+            myList.addLast(element);
+        }
+
+        myPositions = new int[Workload.POSITIONS];
+        for(int i = 0; i < myPositions.length; i++)
+        {
+            if("sequential".equals(pattern))
+            {
+                myPositions[i] = i % size;
+            }
+            else if("strided".equals(pattern))
+            {
+                myPositions[i] = (int) ((long) i * STRIDE % size);
+            }
+            else if("random".equals(pattern))
+            {
+                myPositions[i] = random.nextInt(size);
+            }
+            else
+            {
+                throw new IllegalArgumentException("Unknown pattern: " + pattern);
+            }
+        }
+        myCursor = 0;
+    }
+
+    /**
+     *  @return the next position in the access pattern
+     */
+    private int nextPosition()
+    {
+        myCursor = (myCursor + 1) & (Workload.POSITIONS - 1);
+        return myPositions[myCursor];
+    }
+
+    @Benchmark
+    public Object get()
+    {
+        return myList.get(nextPosition());
+    }
+
+    @Benchmark
+    public Object set()
+    {
+        int position = nextPosition();
+
+        return myList.set(position, myPositions);
+    }
+}
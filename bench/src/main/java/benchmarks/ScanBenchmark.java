@@ -0,0 +1,128 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import structures.LinkedList;
+import structures.UnrolledLinkedList;
+
+/**
+ *  JMH benchmarks comparing scan heavy operations of {@link LinkedList}
+ *  against {@link UnrolledLinkedList}.  Both lists hold the same
+ *  elements, and lookups are aimed at the same positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ScanBenchmark
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"Integer", "String"})
+    private String type;
+
+    @Param({"uniform", "tail"})
+    private String distribution;
+
+    private LinkedList<Object> myLinkedList;
+    private UnrolledLinkedList<Object> myUnrolledList;
+    private Object[] myElements;
+    private int[] myPositions;
+    private int myCursor;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    @Setup
+    public void setUp()
+    {
+        myLinkedList = new LinkedList<Object>();
+        myUnrolledList = new UnrolledLinkedList<Object>();
+
+        myElements = Workload.elements(type, size);
+        for(Object element : myElements)
+        {
+            myLinkedList.addLast(element);
+            myUnrolledList.addLast(element);
+        }
+
+        myPositions = Workload.positions(distribution, size);
+        myCursor = 0;
+    }
+
+    /**
+     *  @return the element at the next position drawn from the access distribution
+     */
+    private Object nextElement()
+    {
+        myCursor = (myCursor + 1) & (Workload.POSITIONS - 1);
+        return myElements[myPositions[myCursor]];
+    }
+
+    @Benchmark
+    public boolean linkedListContains()
+    {
+        return myLinkedList.contains(nextElement());
+    }
+
+    @Benchmark
+    public boolean unrolledListContains()
+    {
+        return myUnrolledList.contains(nextElement());
+    }
+
+    @Benchmark
+    public int linkedListIndexOf()
+    {
+        return myLinkedList.indexOf(nextElement());
+    }
+
+    @Benchmark
+    public int unrolledListIndexOf()
+    {
+        return myUnrolledList.indexOf(nextElement());
+    }
+
+    @Benchmark
+    public boolean linkedListContainsMissing()
+    {
+        return myLinkedList.contains(this);
+    }
+
+    @Benchmark
+    public boolean unrolledListContainsMissing()
+    {
+        return myUnrolledList.contains(this);
+    }
+
+    @Benchmark
+    public String linkedListToString()
+    {
+        return myLinkedList.toString();
+    }
+
+    @Benchmark
+    public String unrolledListToString()
+    {
+        return myUnrolledList.toString();
+    }
+}
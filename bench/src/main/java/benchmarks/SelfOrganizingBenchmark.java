@@ -0,0 +1,94 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import structures.LinkedList;
+
+/**
+ *  JMH benchmarks of contains on lists using each
+ *  {@link LinkedList.Reordering}.  Under a zipf distribution a few
+ *  elements take most lookups, which is where reordering pays off;
+ *  under a uniform one there is nothing to learn and the moves are
+ *  pure overhead.  The sequence of positions is four times as long as
+ *  the list, so a uniform one does not repeat a small working set that
+ *  a policy could learn.  The lists are reordered by the warmup
+ *  iterations too, so the measurements show the order each policy
+ *  settles into.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SelfOrganizingBenchmark
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"zipf", "uniform"})
+    private String distribution;
+
+    @Param({"NONE", "MOVE_TO_FRONT", "TRANSPOSE", "COUNT"})
+    private LinkedList.Reordering reordering;
+
+    private LinkedList<Object> myLinkedList;
+    private Object[] myElements;
+    private int[] myPositions;
+    private int myCursor;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    @Setup
+    public void setUp()
+    {
+        myLinkedList = LinkedList.selfOrganizing(reordering);
+
+        myElements = Workload.elements("Integer", size);
+        for(Object element : myElements)
+        {
+            myLinkedList.addLast(element);
+        }
+
+        myPositions = Workload.positions(distribution, size, Workload.coveringLength(size));
+        myCursor = 0;
+    }
+
+    /**
+     *  @return the element at the next position drawn from the access distribution
+     */
+    private Object nextElement()
+    {
+        myCursor = (myCursor + 1) & (myPositions.length - 1);
+        return myElements[myPositions[myCursor]];
+    }
+
+    @Benchmark
+    public boolean contains()
+    {
+        return myLinkedList.contains(nextElement());
+    }
+
+    @Benchmark
+    public boolean containsMissing()
+    {
+        return myLinkedList.contains(this);
+    }
+}
@@ -0,0 +1,200 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ *  Helper used by the benchmarks to create the elements stored in a
+ *  list and the sequence of positions that lookups are aimed at.
+ *
+ *  Element types:
+ *  <pre>
+ *  Integer  boxed int, cheap equals
+ *  Long     boxed long, cheap equals
+ *  String   "element-" followed by the position, equals compares chars
+ *  </pre>
+ *
+ *  Access distributions:
+ *  <pre>
+ *  uniform  every position is equally likely
+ *  head     log-uniform skew towards the head of the list
+ *  tail     log-uniform skew towards the tail of the list
+ *  zipf     Zipf popularity with exponent 1, the popular positions
+ *           scattered over the list rather than gathered at one end
+ *  </pre>
+ */
+public final class Workload
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Number of precomputed positions; a power of two so a mask can wrap the cursor. */
+    public static final int POSITIONS = 1 << 12;
+
+    private static final long SEED = 42L;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    private Workload()
+    {
+    }
+
+    /**
+     *  @param size the number of elements in a list
+     *
+     *  @return the smallest power of two, and at least {@link #POSITIONS},
+     *          that is four times size or more, so a sequence of that
+     *          many uniform positions reaches nearly every element
+     */
+    public static int coveringLength(int size)
+    {
+        return Math.max(POSITIONS, Integer.highestOneBit(Math.max(1, 4 * size - 1)) << 1);
+    }
+
+    /**
+     *  Creates the elements of a list of the given size
+     *
+     *  @param type one of Integer, Long or String
+     *  @param size the number of elements
+     *
+     *  @return an array holding the element for every position
+     */
+    public static Object[] elements(String type, int size)
+    {
+        Object[] elements = new Object[size];
+
+        for(int i = 0; i < size; i++)
+        {
+            elements[i] = element(type, i);
+        }
+        return elements;
+    }
+
+    /**
+     *  Creates the element stored at a position
+     *
+     *  @param type one of Integer, Long or String
+     *  @param i the position
+     *
+     *  @return the element for position i
+     */
+    public static Object element(String type, int i)
+    {
+        if("Integer".equals(type))
+        {
+            return Integer.valueOf(i);
+        }
+        else if("Long".equals(type))
+        {
+            return Long.valueOf(i * 31L);
+        }
+        else if("String".equals(type))
+        {
+            return "element-" + i;
+        }
+        throw new IllegalArgumentException("Unknown element type: " + type);
+    }
+
+    /**
+     *  Creates a sequence of positions within a list of the given size
+     *
+     *  @param distribution one of uniform, head, tail or zipf
+     *  @param size the number of elements in the list
+     *
+     *  @return {@link #POSITIONS} positions drawn from the distribution
+     */
+    public static int[] positions(String distribution, int size)
+    {
+        return positions(distribution, size, POSITIONS);
+    }
+
+    /**
+     *  Creates a sequence of positions within a list of the given size.
+     *  A sequence shorter than the list leaves most of a uniform
+     *  distribution out, so benchmarks that learn from the positions
+     *  they have seen should ask for {@link #coveringLength} of them
+     *
+     *  @param distribution one of uniform, head, tail or zipf
+     *  @param size the number of elements in the list
+     *  @param count the number of positions wanted
+     *
+     *  @return count positions drawn from the distribution
+     */
+    public static int[] positions(String distribution, int size, int count)
+    {
+        Random random = new Random(SEED);
+        int[] positions = new int[count];
+
+        if("zipf".equals(distribution))
+        {
+            return zipfPositions(random, size, count);
+        }
+        for(int i = 0; i < count; i++)
+        {
+            int skewed = (int) Math.min(size - 1, Math.pow(size, random.nextDouble()) - 1);
+
+            if("uniform".equals(distribution))
+            {
+                positions[i] = random.nextInt(size);
+            }
+            else if("head".equals(distribution))
+            {
+                positions[i] = skewed;
+            }
+            else if("tail".equals(distribution))
+            {
+                positions[i] = size - 1 - skewed;
+            }
+            else
+            {
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     *  Draws positions whose popularity follows Zipf's law: the k-th most
+     *  popular position is drawn with probability proportional to 1/k.
+     *  Which position has which rank is a random permutation
+     *
+     *  @param random the source of randomness
+     *  @param size the number of elements in the list
+     *  @param count the number of positions wanted
+     *
+     *  @return count positions drawn from the distribution
+     */
+    private static int[] zipfPositions(Random random, int size, int count)
+    {
+        double[] cumulative = new double[size];
+        int[] byRank = new int[size];
+        int[] positions = new int[count];
+        double total = 0;
+
+        for(int k = 0; k < size; k++)
+        {
+            total += 1.0 / (k + 1);
+            cumulative[k] = total;
+            byRank[k] = k;
+        }
+        for(int k = size - 1; k > 0; k--)
+        {
+            int other = random.nextInt(k + 1);
+            int swap = byRank[k];
+
+            byRank[k] = byRank[other];
+            byRank[other] = swap;
+        }
+
+        for(int i = 0; i < count; i++)
+        {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+
+            positions[i] = byRank[Math.min(size - 1, (rank < 0) ? -rank - 1 : rank)];
+        }
+        return positions;
+    }
+}
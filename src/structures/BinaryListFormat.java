@@ -0,0 +1,301 @@
+package structures;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ *  Reads and writes the binary snapshot format used by
+ *  {@link LinkedList#writeTo(FileChannel, RecordCodec, boolean)} and
+ *  {@link LinkedList#readFrom(FileChannel, RecordCodec)}.  A snapshot
+ *  is a header followed by one fixed-size record per element, in list
+ *  order, as written by a {@link RecordCodec}.  All numbers are big
+ *  endian.
+ *
+ *  <pre>
+ *  int    magic        0x4C4C5354, "LLST"
+ *  short  version      1
+ *  byte   flags        bit 0 set if the records are compressed
+ *  byte   reserved     0
+ *  int    record size  the recordSize() of the codec used
+ *  long   count        the number of records
+ *  </pre>
+ *
+ *  Uncompressed records follow the header directly.  Compressed records
+ *  are grouped into blocks of at most BLOCK_SIZE bytes, each written as
+ *  an int holding its compressed length followed by the block deflated
+ *  on its own, so a block can be inflated without reading the others.
+ *
+ *  Records are gathered in blocks of several megabytes, so a snapshot is
+ *  moved in few channel calls.  Uncompressed blocks are direct buffers,
+ *  so they are not copied between the heap and native memory; the
+ *  deflater and inflater of Java 8 only work on arrays, so compressed
+ *  blocks are kept on the heap.
+ */
+final class BinaryListFormat
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** First four bytes of every snapshot. */
+    static final int MAGIC = 0x4C4C5354;
+
+    /** Version written by this class and the newest one it reads. */
+    static final short VERSION = 1;
+
+    /** Flag marking a snapshot whose records are compressed. */
+    static final byte COMPRESSED = 1;
+
+    /** Bytes of records moved per channel call, and per compressed block. */
+    static final int BLOCK_SIZE = 1 << 22;
+
+    private static final int HEADER_SIZE = 20;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    private BinaryListFormat()
+    {
+    }
+
+    /**
+     *  Writes a snapshot of count elements, starting at the current
+     *  position of the channel
+     *
+     *  @param data the elements to be written, at least count of them
+     *  @param count the number of elements to be written
+     *  @param channel the channel written to
+     *  @param codec the codec turning each element into a record
+     *  @param compressed whether the records are to be compressed
+     *
+     *  @throws IOException if the channel cannot be written
+     */
+    static <E> void write(Iterable<? extends E> data, int count, FileChannel channel,
+                          RecordCodec<? super E> codec, boolean compressed) throws IOException
+    {
+        int recordSize = codec.recordSize();
+        int perBlock   = recordsPerBlock(recordSize);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        ByteBuffer block  = compressed ? ByteBuffer.allocate(perBlock * recordSize)
+                                       : ByteBuffer.allocateDirect(perBlock * recordSize);
+        Deflater deflater = compressed ? new Deflater(Deflater.BEST_SPEED) : null;
+        byte[] deflated   = compressed ? new byte[BLOCK_SIZE + BLOCK_SIZE / 16 + 64] : null;
+        int inBlock = 0;
+
+        header.putInt(MAGIC).putShort(VERSION).put(compressed ? COMPRESSED : 0).put((byte) 0)
+              .putInt(recordSize).putLong(count);
+        header.flip();
+        writeFully(channel, header);
+
+        try
+        {
+            for(E datum : data)
+            {
+                if(count-- == 0)
+                {
+                    break;
+                }
+                codec.write(datum, block, inBlock * recordSize);
+                if(++inBlock == perBlock)
+                {
+                    writeBlock(channel, block, inBlock * recordSize, deflater, deflated);
+                    inBlock = 0;
+                }
+            }
+            if(inBlock > 0)
+            {
+                writeBlock(channel, block, inBlock * recordSize, deflater, deflated);
+            }
+        }
+        finally
+        {
+            if(deflater != null)
+            {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     *  Reads a snapshot starting at the current position of the channel,
+     *  passing every element to sink in list order
+     *
+     *  @param channel the channel read from
+     *  @param codec the codec turning each record back into an element
+     *  @param sink receives the elements
+     *
+     *  @throws IOException if the channel cannot be read, the snapshot
+     *          ends early or its header does not match the codec
+     */
+    static <E> void read(FileChannel channel, RecordCodec<? extends E> codec, Consumer<? super E> sink)
+        throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int recordSize;
+        int perBlock;
+        long count;
+        boolean compressed;
+        ByteBuffer block;
+        Inflater inflater;
+        byte[] deflated;
+
+        readFully(channel, header);
+        header.flip();
+        if(header.getInt() != MAGIC)
+        {
+            throw new IOException("Not a list snapshot");
+        }
+        if(header.getShort() > VERSION)
+        {
+            throw new IOException("Unsupported snapshot version");
+        }
+        compressed = (header.get() & COMPRESSED) != 0;
+        header.get();
+        recordSize = header.getInt();
+        count = header.getLong();
+        if(recordSize != codec.recordSize())
+        {
+            throw new IOException("Snapshot records are " + recordSize + " bytes, codec records are "
+                                  + codec.recordSize());
+        }
+        if(count < 0 || count > Integer.MAX_VALUE)
+        {
+            throw new IOException("Snapshot holds " + count + " records");
+        }
+
+        perBlock = recordsPerBlock(recordSize);
+        block    = compressed ? ByteBuffer.allocate(perBlock * recordSize)
+                              : ByteBuffer.allocateDirect(perBlock * recordSize);
+        inflater = compressed ? new Inflater() : null;
+        deflated = compressed ? new byte[BLOCK_SIZE + BLOCK_SIZE / 16 + 64] : null;
+
+        try
+        {
+            while(count > 0)
+            {
+                int inBlock = (int) Math.min(count, perBlock);
+
+                readBlock(channel, block, inBlock * recordSize, inflater, deflated);
+                for(int i = 0; i < inBlock; i++)
+                {
+                    sink.accept(codec.read(block, i * recordSize));
+                }
+                count -= inBlock;
+            }
+        }
+        finally
+        {
+            if(inflater != null)
+            {
+                inflater.end();
+            }
+        }
+    }
+
+    private static int recordsPerBlock(int recordSize)
+    {
+        if(recordSize <= 0 || recordSize > BLOCK_SIZE)
+        {
+            throw new IllegalArgumentException("Record size must be from 1 to " + BLOCK_SIZE);
+        }
+        return BLOCK_SIZE / recordSize;
+    }
+
+    /**
+     *  Writes the first length bytes of block, deflating them first if
+     *  a deflater is given
+     */
+    private static void writeBlock(FileChannel channel, ByteBuffer block, int length,
+                                   Deflater deflater, byte[] deflated) throws IOException
+    {
+        ByteBuffer out;
+        int deflatedLength;
+
+        if(deflater == null)
+        {
+            block.clear().limit(length);
+            writeFully(channel, block);
+            return;
+        }
+
+        deflater.reset();
+        deflater.setInput(block.array(), 0, length);
+        deflater.finish();
+        deflatedLength = deflater.deflate(deflated);
+        if(!deflater.finished())
+        {
+            throw new IOException("Compressed block does not fit its buffer");
+        }
+
+        out = ByteBuffer.allocate(4);
+        out.putInt(deflatedLength).flip();
+        writeFully(channel, out);
+        writeFully(channel, ByteBuffer.wrap(deflated, 0, deflatedLength));
+    }
+
+    /**
+     *  Fills the first length bytes of block, inflating a block from the
+     *  channel if an inflater is given
+     */
+    private static void readBlock(FileChannel channel, ByteBuffer block, int length,
+                                  Inflater inflater, byte[] deflated) throws IOException
+    {
+        if(inflater == null)
+        {
+            block.clear().limit(length);
+            readFully(channel, block);
+            return;
+        }
+
+        ByteBuffer in = ByteBuffer.allocate(4);
+        int deflatedLength;
+
+        readFully(channel, in);
+        deflatedLength = in.getInt(0);
+        if(deflatedLength < 0 || deflatedLength > deflated.length)
+        {
+            throw new IOException("Corrupt compressed block");
+        }
+        readFully(channel, ByteBuffer.wrap(deflated, 0, deflatedLength));
+
+        try
+        {
+            inflater.reset();
+            inflater.setInput(deflated, 0, deflatedLength);
+            if(inflater.inflate(block.array(), 0, length) != length || !inflater.finished())
+            {
+                throw new IOException("Corrupt compressed block");
+            }
+        }
+        catch(DataFormatException e)
+        {
+            throw new IOException("Corrupt compressed block", e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException
+    {
+        while(buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException
+    {
+        while(buffer.hasRemaining())
+        {
+            if(channel.read(buffer) < 0)
+            {
+                throw new EOFException("Snapshot ends early");
+            }
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package structures;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ *  A thread-safe, lock-free linked list offering the addFirst, addLast,
+ *  contains, remove and insertBefore methods of {@link LinkedList}.
+ *
+ *  The list follows the Harris-Michael design.  Each next pointer is an
+ *  AtomicMarkableReference; a node is removed by first setting the mark
+ *  on its own next pointer (logical deletion) and then swinging its
+ *  predecessor past it (physical deletion).  Any thread that meets a
+ *  marked node while searching helps unlink it, so no thread ever waits
+ *  for another.  contains never writes and never retries.
+ *
+ *  A sentinel node sits in front of the first element, so the head
+ *  pointer itself never changes.  Null elements are not supported.
+ */
+public class ConcurrentLinkedList<E>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+    private final Node<E> myHead;
+    private final AtomicInteger mySize;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Default constructor that creates an empty linked list
+     *
+     *  <pre>
+     *  pre:  the linked list is empty
+     *  post: the linked list is empty
+     *  </pre>
+     */
+    public ConcurrentLinkedList()
+    {
+        myHead = new Node<E>(null, null);
+        mySize = new AtomicInteger();
+    }
+
+    /**
+     *  Adds a node to the head of the list with a single compare
+     *  and set on the sentinel's next pointer
+     *
+     *  @param datum the object to be entered at the head of the list
+     */
+    public void addFirst(E datum)
+    {
+        checkNotNull(datum);
+
+        while(true)
+        {
+            Node<E> first = myHead.myNext.getReference();
+            Node<E> node  = new Node<E>(datum, first);
+
+            if(myHead.myNext.compareAndSet(first, node, false, false))
+            {
+                mySize.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     *  Adds a node to the tail of the list.  There is no tail pointer,
+     *  so the last node is found with a walk of the list and the new
+     *  node is linked with a compare and set, retrying if another
+     *  thread changed the end of the list first
+     *
+     *  @param datum the object to be entered at the tail of the list
+     */
+    public void addLast(E datum)
+    {
+        Node<E> node;
+
+        checkNotNull(datum);
+        node = new Node<E>(datum, null);
+
+        while(true)
+        {
+            Node<E> last = this.findLast();
+
+            // Fails if last was marked for deletion or a node was appended meanwhile.
+            if(last.myNext.compareAndSet(null, node, false, false))
+            {
+                mySize.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     *  Deletes the first node holding datum from the list if it is
+     *  there.  The node is marked first, which is the point at which
+     *  it leaves the list, and then unlinked
+     *
+     *  @param datum the object to be deleted from the list
+     *
+     *  @return boolean indicating whether or not this call deleted
+     *          the node
+     */
+    public boolean remove(E datum)
+    {
+        if(datum == null)
+        {
+            return false;
+        }
+
+        while(true)
+        {
+            Window<E> window = this.find(datum);
+            Node<E> node = window.myCurrent;
+
+            if(node == null)
+            {
+                return false;
+            }
+
+            Node<E> next = node.myNext.getReference();
+            if(!node.myNext.compareAndSet(next, next, false, true))
+            {
+                // Another thread marked the node first, or a node was inserted after it;
+                // attemptMark would succeed on a node already marked, so only an unmarked
+                // to marked change counts as this call's removal.
+                continue;
+            }
+
+            mySize.decrementAndGet();
+            window.myPrevious.myNext.compareAndSet(node, next, false, false);
+            return true;
+        }
+    }
+
+    /**
+     *  Determine if an unmarked node exists in the list holding datum;
+     *  the list is only read, never changed
+     *
+     *  @param datum the object to be found in the list
+     *
+     *  @return true if the object is in the list, false otherwise
+     */
+    public boolean contains(E datum)
+    {
+        boolean[] marked = new boolean[1];
+        Node<E> node = myHead.myNext.getReference();
+
+        while(node != null)
+        {
+            Node<E> next = node.myNext.get(marked);
+
+            if(!marked[0] && node.myData.equals(datum))
+            {
+                return true;
+            }
+            node = next;
+        }
+        return false;
+    }
+
+    /**
+     *  A new node is entered into the list directly following the
+     *  first node holding beforeDatum, matching the placement used by
+     *  {@link LinkedList#insertBefore}
+     *
+     *  @param datum the object to be entered into the list
+     *  @param beforeDatum the object of the node by which the new
+     *         node is to be entered
+     *
+     *  @return boolean designating if the node was or was not entered
+     */
+    public boolean insertBefore(E datum, E beforeDatum)
+    {
+        checkNotNull(datum);
+        if(beforeDatum == null)
+        {
+            return false;
+        }
+
+        while(true)
+        {
+            Window<E> window = this.find(beforeDatum);
+            Node<E> beforeNode = window.myCurrent;
+
+            if(beforeNode == null)
+            {
+                return false;
+            }
+
+            Node<E> next = beforeNode.myNext.getReference();
+            Node<E> node = new Node<E>(datum, next);
+
+            // Fails if beforeNode was marked or its successor changed.
+            if(beforeNode.myNext.compareAndSet(next, node, false, false))
+            {
+                mySize.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     *  Method that gets the datum of the first node in the list.
+     *  @return datum of first node, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        boolean[] marked = new boolean[1];
+        Node<E> node = myHead.myNext.getReference();
+
+        while(node != null)
+        {
+            Node<E> next = node.myNext.get(marked);
+
+            if(!marked[0])
+            {
+                return node.myData;
+            }
+            node = next;
+        }
+        return null;
+    }
+
+    /**
+     *  Method to return the size of the list.  While other threads are
+     *  changing the list the value may be momentarily out of date.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        return mySize.get();
+    }
+
+    /**
+     *  print the list by converting the objects in the list to their
+     *  string representations, skipping nodes marked for deletion
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+        boolean[] marked = new boolean[1];
+        Node<E> node = myHead.myNext.getReference();
+
+        while(node != null)
+        {
+            Node<E> next = node.myNext.get(marked);
+
+            if(!marked[0])
+            {
+                string.append(node.myData.toString()).append(" -> ");
+            }
+            node = next;
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Finds the first unmarked node holding datum together with the
+     *  node before it, unlinking every marked node passed on the way.
+     *  The search starts over from the head whenever an unlink fails
+     *  because the predecessor changed
+     *
+     *  @param datum the object being looked for
+     *
+     *  @return the window around the node, whose current node is null
+     *          if datum is not in the list
+     */
+    private Window<E> find(E datum)
+    {
+        boolean[] marked = new boolean[1];
+
+        retry:
+        while(true)
+        {
+            Node<E> previous = myHead;
+            Node<E> current  = previous.myNext.getReference();
+
+            while(current != null)
+            {
+                Node<E> next = current.myNext.get(marked);
+
+                while(marked[0])
+                {
+                    if(!previous.myNext.compareAndSet(current, next, false, false))
+                    {
+                        continue retry;
+                    }
+                    current = next;
+                    if(current == null)
+                    {
+                        return new Window<E>(previous, null);
+                    }
+                    next = current.myNext.get(marked);
+                }
+
+                if(current.myData.equals(datum))
+                {
+                    return new Window<E>(previous, current);
+                }
+                previous = current;
+                current  = next;
+            }
+            return new Window<E>(previous, null);
+        }
+    }
+
+    /**
+     *  Finds the last unmarked node, unlinking every marked node passed
+     *  on the way so an append never waits on a stalled removal
+     *
+     *  @return the last node, or the sentinel if the list is empty
+     */
+    private Node<E> findLast()
+    {
+        boolean[] marked = new boolean[1];
+
+        retry:
+        while(true)
+        {
+            Node<E> previous = myHead;
+            Node<E> current  = previous.myNext.getReference();
+
+            while(current != null)
+            {
+                Node<E> next = current.myNext.get(marked);
+
+                if(marked[0])
+                {
+                    if(!previous.myNext.compareAndSet(current, next, false, false))
+                    {
+                        continue retry;
+                    }
+                }
+                else
+                {
+                    previous = current;
+                }
+                current = next;
+            }
+            return previous;
+        }
+    }
+
+    private static void checkNotNull(Object datum)
+    {
+        if(datum == null)
+        {
+            throw new NullPointerException("Null elements are not supported");
+        }
+    }
+
+    private static class Node<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final T myData;
+        private final AtomicMarkableReference<Node<T>> myNext;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for an unmarked node with some object for its
+         *  data and a pointer to another node
+         *
+         *  @param datum an object for the node's data
+         *  @param next the node that this node points to
+         */
+        public Node(T datum, Node<T> next)
+        {
+            myData = datum;
+            myNext = new AtomicMarkableReference<Node<T>>(next, false);
+        }
+    }
+
+    private static class Window<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final Node<T> myPrevious;
+        private final Node<T> myCurrent;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for a pair of adjacent nodes found by a search
+         *
+         *  @param previous the node before current
+         *  @param current the node found, or null if none was
+         */
+        public Window(Node<T> previous, Node<T> current)
+        {
+            myPrevious = previous;
+            myCurrent  = current;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package structures;
+
+import java.util.Objects;
+
+/**
+ *  A counting Bloom filter kept by a {@link LinkedList} once
+ *  {@link LinkedList#enableFilter()} has been called.  Every datum sets
+ *  HASHES counters, chosen from its hashCode, and a datum whose counters
+ *  are not all set cannot be in the list, so most lookups of data that
+ *  are absent are answered without walking the list.  Counters are
+ *  decremented again when a datum leaves the list, which a plain Bloom
+ *  filter cannot do.
+ *
+ *  Counters take four bits, sixteen to a long, and there are at least
+ *  COUNTERS_PER_DATUM of them per datum the filter was sized for, which
+ *  with seven hashes gives about one false positive in a hundred when
+ *  full.  A counter that reaches fifteen stays there for good, so the
+ *  filter never answers no for a datum that is in the list.
+ *
+ *  The filter also counts the lookups of absent data that it let
+ *  through, so the list can tell when its false positive rate has
+ *  grown too high and build a new, larger filter.
+ */
+final class CountingBloomFilter
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Number of counters set by each datum. */
+    static final int HASHES = 7;
+
+    /** Fewest counters per datum the filter is sized for. */
+    static final int COUNTERS_PER_DATUM = 10;
+
+    /** Fewest data a filter is sized for. */
+    static final int MIN_CAPACITY = 64;
+
+    /** Observed false positive rate above which the filter is degraded. */
+    static final double MAX_FALSE_POSITIVE_RATE = 0.05;
+
+    /** Lookups of absent data seen before the observed rate is trusted. */
+    static final int SAMPLE_SIZE = 1024;
+
+    private static final int MAX_COUNT = 15;
+
+    private final long[] myCounters;
+    private final int myMask;
+    private final int myCapacity;
+    private final int mySeed;
+    private int myAbsentLookups;
+    private int myFalsePositives;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Constructor that creates an empty filter
+     *
+     *  @param capacity the number of data the filter is sized for
+     *  @param seed mixed into every hash, so that a rebuilt filter
+     *         spreads the same data differently
+     */
+    CountingBloomFilter(int capacity, int seed)
+    {
+        int counters;
+
+        myCapacity = Math.max(MIN_CAPACITY, Math.min(capacity, Integer.MAX_VALUE / COUNTERS_PER_DATUM / 2));
+        counters   = Integer.highestOneBit(myCapacity * COUNTERS_PER_DATUM - 1) << 1;
+        myCounters = new long[Math.max(1, counters >>> 4)];
+        myMask     = counters - 1;
+        mySeed     = seed;
+    }
+
+    /**
+     *  @return the number of data the filter was sized for
+     */
+    int capacity()
+    {
+        return myCapacity;
+    }
+
+    /**
+     *  @return the seed the filter was built with
+     */
+    int seed()
+    {
+        return mySeed;
+    }
+
+    /**
+     *  Enters a datum into the filter
+     *
+     *  @param datum the datum entered into the list
+     */
+    void add(Object datum)
+    {
+        long hash = this.hash(datum);
+        int first = (int) hash;
+        int step  = (int) (hash >>> 32) | 1;
+
+        for(int i = 0; i < HASHES; i++)
+        {
+            int counter = (first + i * step) & myMask;
+
+            if(this.count(counter) < MAX_COUNT)
+            {
+                myCounters[counter >>> 4] += 1L << ((counter & 15) << 2);
+            }
+        }
+    }
+
+    /**
+     *  Takes a datum that was entered before back out of the filter
+     *
+     *  @param datum the datum leaving the list
+     */
+    void remove(Object datum)
+    {
+        long hash = this.hash(datum);
+        int first = (int) hash;
+        int step  = (int) (hash >>> 32) | 1;
+
+        for(int i = 0; i < HASHES; i++)
+        {
+            int counter = (first + i * step) & myMask;
+            int count   = this.count(counter);
+
+            if(count > 0 && count < MAX_COUNT)
+            {
+                myCounters[counter >>> 4] -= 1L << ((counter & 15) << 2);
+            }
+        }
+    }
+
+    /**
+     *  Determine whether a datum may have been entered.  A no is always
+     *  right and is counted as a lookup of an absent datum
+     *
+     *  @param datum the datum being looked for
+     *
+     *  @return false if the datum is certainly not in the list
+     */
+    boolean mightContain(Object datum)
+    {
+        long hash = this.hash(datum);
+        int first = (int) hash;
+        int step  = (int) (hash >>> 32) | 1;
+
+        for(int i = 0; i < HASHES; i++)
+        {
+            if(this.count((first + i * step) & myMask) == 0)
+            {
+                this.recordAbsent(false);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *  Records that a datum the filter let through was not in the list
+     */
+    void recordFalsePositive()
+    {
+        this.recordAbsent(true);
+    }
+
+    /**
+     *  @return the fraction of lookups of absent data the filter let
+     *          through, counted over the last few thousand of them
+     */
+    double falsePositiveRate()
+    {
+        return (myAbsentLookups == 0) ? 0 : (double) myFalsePositives / myAbsentLookups;
+    }
+
+    /**
+     *  Determine whether the filter should be replaced, either because
+     *  it holds more data than it was sized for or because too many
+     *  absent data have been let through
+     *
+     *  @param size the number of data in the list
+     *
+     *  @return true if a new filter should be built
+     */
+    boolean isDegraded(int size)
+    {
+        return size > myCapacity
+            || (myAbsentLookups >= SAMPLE_SIZE && this.falsePositiveRate() > MAX_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     *  Sets every counter back to zero, as for an empty list
+     */
+    void clear()
+    {
+        for(int i = 0; i < myCounters.length; i++)
+        {
+            myCounters[i] = 0;
+        }
+        myAbsentLookups  = 0;
+        myFalsePositives = 0;
+    }
+
+    /**
+     *  Counts a lookup of an absent datum.  Once a full sample has been
+     *  seen both counts are halved, so the rate follows recent lookups
+     */
+    private void recordAbsent(boolean falsePositive)
+    {
+        if(myAbsentLookups >= 2 * SAMPLE_SIZE)
+        {
+            myAbsentLookups  >>>= 1;
+            myFalsePositives >>>= 1;
+        }
+        myAbsentLookups++;
+        if(falsePositive)
+        {
+            myFalsePositives++;
+        }
+    }
+
+    private int count(int counter)
+    {
+        return (int) (myCounters[counter >>> 4] >>> ((counter & 15) << 2)) & MAX_COUNT;
+    }
+
+    /**
+     *  Spreads the hashCode of a datum over 64 bits with the finalizer
+     *  of MurmurHash3; the two halves drive the double hashing that
+     *  picks the counters
+     */
+    private long hash(Object datum)
+    {
+        long hash = Objects.hashCode(datum) + mySeed * 0x9E3779B97F4A7C15L;
+
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,347 @@
+package structures;
+
+import java.util.NoSuchElementException;
+
+/**
+ *  A singly linked list of double values.  It offers the methods of
+ *  {@link LinkedList} but every node stores a primitive double, so no
+ *  Double is ever created and comparisons never call equals.  Values
+ *  are compared the way Double.equals compares them, so NaN matches
+ *  NaN and 0.0 does not match -0.0.
+ *
+ *  Because a double cannot be null, the methods that return an element
+ *  throw NoSuchElementException when the list is empty rather than
+ *  returning null.
+ */
+public class DoubleLinkedList
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+    private Node myHead;
+    private Node myTail;
+    private int mySize;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Default constructor that creates an empty linked list
+     *
+     *  <pre>
+     *  pre:  the linked list is empty
+     *  post: the linked list is empty
+     *  </pre>
+     */
+    public DoubleLinkedList()
+    {
+        myHead = null;
+        myTail = null;
+        mySize = 0;
+    }
+
+    /**
+     *  Adds a value to the head of the linked list
+     *
+     *  <pre>
+     *  pre:  the linked list may be empty or contain one or
+     *        more nodes
+     *  post: the linked list contains one more node that has
+     *        been added to the beginning of the list
+     *  </pre>
+     *
+     *  @param datum the value to be entered at the head of the list
+     */
+    public void addFirst(double datum)
+    {
+        Node node = new Node(datum, myHead);
+
+        if(myHead == null)
+        {
+            myTail = node;
+        }
+        myHead = node;
+        mySize++;
+    }
+
+    /**
+     *  Adds a value to the tail of the linked list
+     *
+     *  <pre>
+     *  pre:  the linked list may be empty or contain one or
+     *        more nodes
+     *  post: the linked list contains one more node that has
+     *        been added to the end of the list
+     *  </pre>
+     *
+     *  @param datum the value to be entered at the tail of the list
+     */
+    public void addLast(double datum)
+    {
+        Node node = new Node(datum, null);
+
+        if(myHead == null)
+        {
+            myHead = node;
+        }
+        else
+        {
+            myTail.myNext = node;
+        }
+        myTail = node;
+        mySize++;
+    }
+
+    /**
+     *  Deletes the first node holding datum from the list if it is
+     *  there, in a single walk of the list
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: if the value is in the list, its first node no longer
+     *        exists in the list
+     *  </pre>
+     *
+     *  @param datum the value to be deleted from the list
+     *
+     *  @return boolean indicating whether or not a node was deleted
+     */
+    public boolean remove(double datum)
+    {
+        Node previousNode = null;
+
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            if(sameValue(node.myData, datum))
+            {
+                this.unlink(previousNode, node);
+                return true;
+            }
+            previousNode = node;
+        }
+        return false;
+    }
+
+    /**
+     *  Determine if a node exists in the list holding datum
+     *
+     *  @param datum the value to be found in the list
+     *
+     *  @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double datum)
+    {
+        return this.indexOf(datum) >= 0;
+    }
+
+    /**
+     *  Method to find the index of the first node holding datum.
+     *
+     *  @param datum the value we are looking for
+     *  @return the index of the node in the list, or -1 if it is not there
+     */
+    public int indexOf(double datum)
+    {
+        int index = 0;
+
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            if(sameValue(node.myData, datum))
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     *  A new node holding datum is entered into the list directly
+     *  following the first node holding beforeDatum, matching the
+     *  placement used by {@link LinkedList#insertBefore}
+     *
+     *  @param datum the value to be entered into the list
+     *  @param beforeDatum the value of the node by which the new
+     *         node is to be entered
+     *
+     *  @return boolean designating if the node was or was not entered
+     */
+    public boolean insertBefore(double datum, double beforeDatum)
+    {
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            if(sameValue(node.myData, beforeDatum))
+            {
+                node.myNext = new Node(datum, node.myNext);
+                if(myTail == node)
+                {
+                    myTail = node.myNext;
+                }
+                mySize++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  Method to remove the first node in the list.
+     *
+     *  @return the value of the removed node
+     *  @throws NoSuchElementException if the list is empty
+     */
+    public double removeFirst()
+    {
+        double datum = this.getFirst();
+
+        this.unlink(null, myHead);
+        return datum;
+    }
+
+    /**
+     *  Method to remove the last node in the list; the node before
+     *  the tail is found with a single walk of the list.
+     *
+     *  @return the value of the removed node
+     *  @throws NoSuchElementException if the list is empty
+     */
+    public double removeLast()
+    {
+        double datum = this.getLast();
+        Node previousNode = null;
+
+        for(Node node = myHead; node != myTail; node = node.myNext)
+        {
+            previousNode = node;
+        }
+        this.unlink(previousNode, myTail);
+        return datum;
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        return mySize;
+    }
+
+    /**
+     *  Method that gets the value of the first node in the list.
+     *
+     *  @return value of first node
+     *  @throws NoSuchElementException if the list is empty
+     */
+    public double getFirst()
+    {
+        if(myHead == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return myHead.myData;
+    }
+
+    /**
+     *  Method that gets the value of the last node in the list.
+     *
+     *  @return value of last node
+     *  @throws NoSuchElementException if the list is empty
+     */
+    public double getLast()
+    {
+        if(myTail == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return myTail.myData;
+    }
+
+    /**
+     *  print the list in the same format as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            string.append(node.myData).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Compares two values by their bits, as Double.equals does,
+     *  without creating a Double
+     *
+     *  @param first a value in the list
+     *  @param second the value being looked for
+     *
+     *  @return true if the two values are the same
+     */
+    private static boolean sameValue(double first, double second)
+    {
+        return Double.doubleToLongBits(first) == Double.doubleToLongBits(second);
+    }
+
+    /**
+     *  Unlinks a node from the list given the node that precedes it
+     *
+     *  @param previousNode the node directly before node, or null
+     *         if node is the head
+     *  @param node the node to be unlinked
+     */
+    private void unlink(Node previousNode, Node node)
+    {
+        if(previousNode == null)
+        {
+            myHead = node.myNext;
+        }
+        else
+        {
+            previousNode.myNext = node.myNext;
+        }
+
+        if(myTail == node)
+        {
+            myTail = previousNode;
+        }
+        node.myNext = null;
+        mySize--;
+    }
+
+    private static class Node
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final double myData;
+        private Node myNext;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for a node with a value for its data
+         *  and a pointer to another node
+         *
+         *  @param datum the node's value
+         *  @param next the node that this node points to
+         */
+        public Node(double datum, Node next)
+        {
+            myData = datum;
+            myNext = next;
+        }
+    }
+}
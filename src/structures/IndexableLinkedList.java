@@ -0,0 +1,534 @@
+package structures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ *  A linked list in which every position can be reached in expected
+ *  O(log n).  The nodes form an ordinary chain from head to tail, and
+ *  on top of that chain each node carries a randomly chosen number of
+ *  extra forward pointers, giving a skip list.  Each of these express
+ *  links also records its width, the number of nodes it passes over,
+ *  so a search for a position adds up widths while dropping down the
+ *  levels instead of counting nodes one at a time.
+ *
+ *  get, set, add and remove by position therefore take expected
+ *  O(log n), as do the addLast, removeLast and getLast methods.  The
+ *  list is not sorted, so finding a datum by value still walks the
+ *  bottom chain, but indexOf counts the position during that single
+ *  walk.  Null data are not supported.
+ */
+public class IndexableLinkedList<E> implements Iterable<E>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Highest number of levels a node can have. */
+    public static final int MAX_LEVEL = 32;
+
+    private final Node<E> myHead;
+    private final Random myRandom;
+    private Node<E> myTail;
+    private int myLevel;
+    private int mySize;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Default constructor that creates an empty linked list
+     *
+     *  <pre>
+     *  pre:  the linked list is empty
+     *  post: the linked list is empty
+     *  </pre>
+     */
+    public IndexableLinkedList()
+    {
+        myHead = new Node<E>(null, MAX_LEVEL);
+        myRandom = new Random();
+        myTail = null;
+        myLevel = 1;
+        mySize = 0;
+    }
+
+    /**
+     *  Adds a node to the head of the linked list
+     *
+     *  @param datum the object to be entered at the head of the list
+     */
+    public void addFirst(E datum)
+    {
+        this.add(0, datum);
+    }
+
+    /**
+     *  Adds a node to the tail of the linked list
+     *
+     *  @param datum the object to be entered at the tail of the list
+     */
+    public void addLast(E datum)
+    {
+        this.add(mySize, datum);
+    }
+
+    /**
+     *  A new node with datum is entered into the list so that it ends
+     *  up at position index.  Every express link passing over the new
+     *  node grows one wider
+     *
+     *  <pre>
+     *  pre:  the list has index or more nodes
+     *  post: the list contains one more node, holding datum, at
+     *        position index; the nodes from index on have moved up
+     *        one position
+     *  </pre>
+     *
+     *  @param index the position the new node is to have
+     *  @param datum the object used to create the new node
+     */
+    @SuppressWarnings("unchecked")
+    public void add(int index, E datum)
+    {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        int[] updateRank = new int[MAX_LEVEL];
+        Node<E> newNode;
+        int level;
+
+        if(datum == null)
+        {
+            throw new NullPointerException("Null elements are not supported");
+        }
+        this.checkIndex(index, mySize + 1);
+
+        // The head has rank 0 and the node at position index will have rank index + 1.
+        this.findPredecessors(index, update, updateRank);
+
+        level = this.randomLevel();
+        if(level > myLevel)
+        {
+            for(int i = myLevel; i < level; i++)
+            {
+                update[i] = myHead;
+                updateRank[i] = 0;
+                myHead.myWidth[i - 1] = mySize + 1;
+            }
+            myLevel = level;
+        }
+
+        newNode = new Node<E>(datum, level);
+        newNode.myNext = update[0].myNext;
+        update[0].myNext = newNode;
+        for(int i = 1; i < myLevel; i++)
+        {
+            if(i < level)
+            {
+                newNode.myExpress[i - 1] = update[i].myExpress[i - 1];
+                newNode.myWidth[i - 1] = updateRank[i] + update[i].myWidth[i - 1] - index;
+                update[i].myExpress[i - 1] = newNode;
+                update[i].myWidth[i - 1] = index + 1 - updateRank[i];
+            }
+            else
+            {
+                update[i].myWidth[i - 1]++;
+            }
+        }
+
+        if(newNode.myNext == null)
+        {
+            myTail = newNode;
+        }
+        mySize++;
+    }
+
+    /**
+     *  Deletes the node at a position.  Every express link that passed
+     *  over the node shrinks by one
+     *
+     *  <pre>
+     *  pre:  the list has more than index nodes
+     *  post: the node at index no longer exists in the list; the
+     *        nodes after it have moved down one position
+     *  </pre>
+     *
+     *  @param index the position of the node to be deleted
+     *
+     *  @return the datum of the deleted node
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index)
+    {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        int[] updateRank = new int[MAX_LEVEL];
+        Node<E> node;
+
+        this.checkIndex(index, mySize);
+        this.findPredecessors(index, update, updateRank);
+        node = update[0].myNext;
+
+        update[0].myNext = node.myNext;
+        for(int i = 1; i < myLevel; i++)
+        {
+            if(update[i].myExpress[i - 1] == node)
+            {
+                update[i].myExpress[i - 1] = node.myExpress[i - 1];
+                update[i].myWidth[i - 1] += node.myWidth[i - 1] - 1;
+            }
+            else
+            {
+                update[i].myWidth[i - 1]--;
+            }
+        }
+
+        if(myTail == node)
+        {
+            myTail = (update[0] == myHead) ? null : update[0];
+        }
+        while(myLevel > 1 && myHead.myExpress[myLevel - 2] == null)
+        {
+            myLevel--;
+        }
+        mySize--;
+        return node.myData;
+    }
+
+    /**
+     *  Deletes the first node holding datum from the list if it is there.
+     *  The node is found with a walk of the list
+     *
+     *  @param datum the object to be deleted from the list
+     *
+     *  @return boolean indicating whether or not the node was deleted
+     */
+    public boolean remove(E datum)
+    {
+        int index = this.indexOf(datum);
+
+        if(index < 0)
+        {
+            return false;
+        }
+        this.remove(index);
+        return true;
+    }
+
+    /**
+     *  Method that gets the datum of the node at a position
+     *
+     *  @param index the position of the node, counting from 0
+     *
+     *  @return datum of the node at index
+     */
+    public E get(int index)
+    {
+        this.checkIndex(index, mySize);
+        return this.nodeAt(index).myData;
+    }
+
+    /**
+     *  Method that replaces the datum of the node at a position
+     *
+     *  @param index the position of the node, counting from 0
+     *  @param datum the new datum
+     *
+     *  @return the datum the node held before
+     */
+    public E set(int index, E datum)
+    {
+        Node<E> node;
+        E oldDatum;
+
+        if(datum == null)
+        {
+            throw new NullPointerException("Null elements are not supported");
+        }
+        this.checkIndex(index, mySize);
+        node = this.nodeAt(index);
+        oldDatum = node.myData;
+        node.myData = datum;
+        return oldDatum;
+    }
+
+    /**
+     *  Determine if a node exists in the list with datum equal to
+     *  the one passed in
+     *
+     *  @param datum the object to be found in the list
+     *
+     *  @return true if the object is in the list, false otherwise
+     */
+    public boolean contains(E datum)
+    {
+        return this.indexOf(datum) >= 0;
+    }
+
+    /**
+     *  Method to find the index of the first node holding datum.  The
+     *  position is counted during the one walk that finds the node
+     *
+     *  @param datum the object we are looking for
+     *  @return the index of the node in the list, or -1 if it is not there
+     */
+    public int indexOf(E datum)
+    {
+        int index = 0;
+
+        if(datum == null)
+        {
+            return -1;
+        }
+        for(Node<E> node = myHead.myNext; node != null; node = node.myNext)
+        {
+            if(node.myData.equals(datum))
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     *  A new node with datum is entered into the list directly following
+     *  the first node holding beforeDatum, matching the placement used by
+     *  {@link LinkedList#insertBefore}
+     *
+     *  @param datum the object used to create the new node
+     *  @param beforeDatum the datum of the node by which the new node
+     *         is to be entered
+     *
+     *  @return boolean designating if the node was or was not entered
+     */
+    public boolean insertBefore(E datum, E beforeDatum)
+    {
+        int index = this.indexOf(beforeDatum);
+
+        if(index < 0)
+        {
+            return false;
+        }
+        this.add(index + 1, datum);
+        return true;
+    }
+
+    /**
+     *  Method to remove the first node in the list.
+     *
+     *  @return the datum of the removed node, or null if the list is empty
+     */
+    public E removeFirst()
+    {
+        return (mySize == 0) ? null : this.remove(0);
+    }
+
+    /**
+     *  Method to remove the last node in the list.
+     *
+     *  @return the datum of the removed node, or null if the list is empty
+     */
+    public E removeLast()
+    {
+        return (mySize == 0) ? null : this.remove(mySize - 1);
+    }
+
+    /**
+     *  Method that gets the datum of the first node in the list.
+     *  @return datum of first node, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        Node<E> node = myHead.myNext;
+
+        return (node == null) ? null : node.myData;
+    }
+
+    /**
+     *  Method that gets the datum of the last node in the list.
+     *  @return datum of last node, or null if the list is empty
+     */
+    public E getLast()
+    {
+        return (myTail == null) ? null : myTail.myData;
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        return mySize;
+    }
+
+    /**
+     *  Returns an iterator over the data in list order; it follows the
+     *  bottom chain only
+     *
+     *  @return an iterator positioned before the first node
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private Node<E> myNode = myHead.myNext;
+
+            @Override
+            public boolean hasNext()
+            {
+                return myNode != null;
+            }
+
+            @Override
+            public E next()
+            {
+                E datum;
+
+                if(myNode == null)
+                {
+                    throw new NoSuchElementException();
+                }
+                datum = myNode.myData;
+                myNode = myNode.myNext;
+                return datum;
+            }
+        };
+    }
+
+    /**
+     *  print the list in the same format as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        for(Node<E> node = myHead.myNext; node != null; node = node.myNext)
+        {
+            string.append(node.myData.toString()).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Finds the node at a position by adding up link widths, dropping
+     *  down a level whenever the next link would overshoot
+     *
+     *  @param index the position of the node, which must be in range
+     *
+     *  @return the node at index
+     */
+    private Node<E> nodeAt(int index)
+    {
+        Node<E> node = myHead;
+        int rank = 0;
+
+        for(int i = myLevel - 1; i > 0; i--)
+        {
+            while(node.myExpress[i - 1] != null && rank + node.myWidth[i - 1] <= index + 1)
+            {
+                rank += node.myWidth[i - 1];
+                node = node.myExpress[i - 1];
+            }
+        }
+        for(; rank <= index; rank++)
+        {
+            node = node.myNext;
+        }
+        return node;
+    }
+
+    /**
+     *  Finds, on every level, the last node before position index
+     *  together with its rank, the head having rank 0 and the node at
+     *  position p having rank p + 1
+     *
+     *  @param index the position being looked for
+     *  @param update filled with the node before index on each level
+     *  @param updateRank filled with the rank of each of those nodes
+     */
+    private void findPredecessors(int index, Node<E>[] update, int[] updateRank)
+    {
+        Node<E> node = myHead;
+        int rank = 0;
+
+        for(int i = myLevel - 1; i > 0; i--)
+        {
+            while(node.myExpress[i - 1] != null && rank + node.myWidth[i - 1] <= index)
+            {
+                rank += node.myWidth[i - 1];
+                node = node.myExpress[i - 1];
+            }
+            update[i] = node;
+            updateRank[i] = rank;
+        }
+        for(; rank < index; rank++)
+        {
+            node = node.myNext;
+        }
+        update[0] = node;
+        updateRank[0] = rank;
+    }
+
+    /**
+     *  Picks the number of levels for a new node; each extra level is
+     *  given with probability one half
+     *
+     *  @return a level from 1 to MAX_LEVEL
+     */
+    private int randomLevel()
+    {
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(myRandom.nextInt()) + 1);
+    }
+
+    private void checkIndex(int index, int bound)
+    {
+        if(index < 0 || index >= bound)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mySize);
+        }
+    }
+
+    private static class Node<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private T myData;
+        private Node<T> myNext;
+        private final Node<T>[] myExpress;
+        private final int[] myWidth;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for a node with some object for its data and
+         *  room for a forward pointer on each of its levels.  The link
+         *  of the bottom chain is a field of its own and always has
+         *  width 1, so only the express links above it, at index
+         *  level - 1 of myExpress, carry a width in myWidth
+         *
+         *  @param datum an object for the node's data
+         *  @param level the number of levels the node is on
+         */
+        @SuppressWarnings("unchecked")
+        public Node(T datum, int level)
+        {
+            myData = datum;
+            myNext = null;
+            myExpress = (level == 1) ? null : (Node<T>[]) new Node<?>[level - 1];
+            myWidth = (level == 1) ? null : new int[level - 1];
+        }
+    }
+}
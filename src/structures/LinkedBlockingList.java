@@ -0,0 +1,772 @@
+package structures;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ *  A thread-safe linked list used as a first-in first-out queue between
+ *  producer and consumer threads, optionally bounded in size.  Elements
+ *  are entered at the tail with addLast, offer or put and taken from
+ *  the head with removeFirst, poll or take; put and take wait for room
+ *  or for an element instead of making the caller spin.
+ *
+ *  The list follows the two-lock design of Michael and Scott.  A dummy
+ *  node always sits in front of the first element, so the head is only
+ *  touched by takers and the tail only by putters, and each end has its
+ *  own lock.  A producer and a consumer therefore never wait for each
+ *  other; the one field both change, the count, is atomic.
+ *
+ *  addAll and putAll chain their nodes together before taking the tail
+ *  lock and link the chain in one step, and drainTo unlinks up to max
+ *  elements while holding the head lock once, so batches of thousands
+ *  of elements cost one lock acquisition instead of one each.  Null
+ *  elements are not supported.
+ */
+public class LinkedBlockingList<E>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    private final int myCapacity;
+    private final AtomicInteger myCount;
+    private final ReentrantLock myTakeLock;
+    private final Condition myNotEmpty;
+    private final ReentrantLock myPutLock;
+    private final Condition myNotFull;
+    private Node<E> myHead;
+    private Node<E> myTail;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Default constructor that creates an empty list with no bound on
+     *  its size other than Integer.MAX_VALUE
+     *
+     *  <pre>
+     *  pre:  the linked list is empty
+     *  post: the linked list is empty
+     *  </pre>
+     */
+    public LinkedBlockingList()
+    {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     *  Constructor that creates an empty list holding at most capacity
+     *  elements
+     *
+     *  <pre>
+     *  pre:  capacity is positive
+     *  post: the linked list is empty
+     *  </pre>
+     *
+     *  @param capacity the most elements the list holds
+     */
+    public LinkedBlockingList(int capacity)
+    {
+        if(capacity <= 0)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        myCapacity = capacity;
+        myCount = new AtomicInteger();
+        myTakeLock = new ReentrantLock();
+        myNotEmpty = myTakeLock.newCondition();
+        myPutLock = new ReentrantLock();
+        myNotFull = myPutLock.newCondition();
+        myHead = new Node<E>(null);
+        myTail = myHead;
+    }
+
+    /**
+     *  Adds an element to the tail of the list if there is room,
+     *  without waiting
+     *
+     *  @param datum the object to be entered at the tail of the list
+     *
+     *  @throws IllegalStateException if the list is full
+     */
+    public void addLast(E datum)
+    {
+        if(!this.offer(datum))
+        {
+            throw new IllegalStateException("List full");
+        }
+    }
+
+    /**
+     *  Adds an element to the tail of the list if there is room,
+     *  without waiting
+     *
+     *  @param datum the object to be entered at the tail of the list
+     *
+     *  @return true if the element was entered, false if the list is full
+     */
+    public boolean offer(E datum)
+    {
+        Node<E> node = new Node<E>(checkNotNull(datum));
+        int count;
+
+        if(myCount.get() == myCapacity)
+        {
+            return false;
+        }
+        myPutLock.lock();
+        try
+        {
+            if(myCount.get() == myCapacity)
+            {
+                return false;
+            }
+            count = this.enqueue(node, node, 1);
+        }
+        finally
+        {
+            myPutLock.unlock();
+        }
+        if(count == 0)
+        {
+            this.signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     *  Adds an element to the tail of the list, waiting up to a time for
+     *  room if the list is full
+     *
+     *  @param datum the object to be entered at the tail of the list
+     *  @param timeout how long to wait, in units of unit
+     *  @param unit the unit of timeout
+     *
+     *  @return true if the element was entered, false if there was no
+     *          room before the time ran out
+     *
+     *  @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(E datum, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        Node<E> node = new Node<E>(checkNotNull(datum));
+        long nanos = unit.toNanos(timeout);
+        int count;
+
+        myPutLock.lockInterruptibly();
+        try
+        {
+            while(myCount.get() == myCapacity)
+            {
+                if(nanos <= 0)
+                {
+                    return false;
+                }
+                nanos = myNotFull.awaitNanos(nanos);
+            }
+            count = this.enqueue(node, node, 1);
+        }
+        finally
+        {
+            myPutLock.unlock();
+        }
+        if(count == 0)
+        {
+            this.signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     *  Adds an element to the tail of the list, waiting as long as it
+     *  takes for room if the list is full
+     *
+     *  @param datum the object to be entered at the tail of the list
+     *
+     *  @throws InterruptedException if interrupted while waiting
+     */
+    public void put(E datum) throws InterruptedException
+    {
+        Node<E> node = new Node<E>(checkNotNull(datum));
+        int count;
+
+        myPutLock.lockInterruptibly();
+        try
+        {
+            while(myCount.get() == myCapacity)
+            {
+                myNotFull.await();
+            }
+            count = this.enqueue(node, node, 1);
+        }
+        finally
+        {
+            myPutLock.unlock();
+        }
+        if(count == 0)
+        {
+            this.signalNotEmpty();
+        }
+    }
+
+    /**
+     *  Adds every element of a collection to the tail of the list in
+     *  iteration order if there is room for all of them, without
+     *  waiting.  The elements are chained before the tail lock is
+     *  taken, and either all of them are entered or none is
+     *
+     *  @param data the objects to be entered at the tail of the list
+     *
+     *  @return true if the list changed, false if data is empty
+     *
+     *  @throws IllegalStateException if there is no room for them all
+     */
+    public boolean addAll(Collection<? extends E> data)
+    {
+        Chain<E> chain = chainOf(data);
+        int count;
+
+        if(chain == null)
+        {
+            return false;
+        }
+        myPutLock.lock();
+        try
+        {
+            if(myCount.get() > myCapacity - chain.myLength)
+            {
+                throw new IllegalStateException("No room for " + chain.myLength + " elements");
+            }
+            count = this.enqueue(chain.myFirst, chain.myLast, chain.myLength);
+        }
+        finally
+        {
+            myPutLock.unlock();
+        }
+        if(count == 0)
+        {
+            this.signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     *  Adds every element of a collection to the tail of the list in
+     *  iteration order, waiting for room as often as it takes.  Each
+     *  time the tail lock is held as many elements are linked as there
+     *  is room for, so other producers may enter elements in between
+     *  those of data
+     *
+     *  @param data the objects to be entered at the tail of the list
+     *
+     *  @throws InterruptedException if interrupted while waiting; the
+     *          elements entered before then stay in the list
+     */
+    public void putAll(Collection<? extends E> data) throws InterruptedException
+    {
+        Chain<E> chain = chainOf(data);
+
+        while(chain != null)
+        {
+            Node<E> first = chain.myFirst;
+            Node<E> last = first;
+            int room;
+            int length;
+            int count;
+
+            myPutLock.lockInterruptibly();
+            try
+            {
+                while(myCount.get() == myCapacity)
+                {
+                    myNotFull.await();
+                }
+                room = myCapacity - myCount.get();
+                length = Math.min(room, chain.myLength);
+                if(length == chain.myLength)
+                {
+                    last = chain.myLast;
+                    chain = null;
+                }
+                else
+                {
+                    for(int i = 1; i < length; i++)
+                    {
+                        last = last.myNext;
+                    }
+                    chain.myFirst = last.myNext;
+                    chain.myLength -= length;
+                    last.myNext = null;
+                }
+                count = this.enqueue(first, last, length);
+            }
+            finally
+            {
+                myPutLock.unlock();
+            }
+            if(count == 0)
+            {
+                this.signalNotEmpty();
+            }
+        }
+    }
+
+    /**
+     *  Method to remove the first element in the list, without waiting.
+     *
+     *  @return the removed element, or null if the list is empty
+     */
+    public E removeFirst()
+    {
+        return this.poll();
+    }
+
+    /**
+     *  Method to remove the first element in the list, without waiting.
+     *
+     *  @return the removed element, or null if the list is empty
+     */
+    public E poll()
+    {
+        E datum;
+        int count;
+
+        if(myCount.get() == 0)
+        {
+            return null;
+        }
+        myTakeLock.lock();
+        try
+        {
+            if(myCount.get() == 0)
+            {
+                return null;
+            }
+            datum = this.dequeue();
+            count = myCount.getAndDecrement();
+            if(count > 1)
+            {
+                myNotEmpty.signal();
+            }
+        }
+        finally
+        {
+            myTakeLock.unlock();
+        }
+        if(count == myCapacity)
+        {
+            this.signalNotFull();
+        }
+        return datum;
+    }
+
+    /**
+     *  Removes the first element in the list, waiting up to a time for
+     *  one if the list is empty
+     *
+     *  @param timeout how long to wait, in units of unit
+     *  @param unit the unit of timeout
+     *
+     *  @return the removed element, or null if none arrived before the
+     *          time ran out
+     *
+     *  @throws InterruptedException if interrupted while waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        E datum;
+        int count;
+
+        myTakeLock.lockInterruptibly();
+        try
+        {
+            while(myCount.get() == 0)
+            {
+                if(nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = myNotEmpty.awaitNanos(nanos);
+            }
+            datum = this.dequeue();
+            count = myCount.getAndDecrement();
+            if(count > 1)
+            {
+                myNotEmpty.signal();
+            }
+        }
+        finally
+        {
+            myTakeLock.unlock();
+        }
+        if(count == myCapacity)
+        {
+            this.signalNotFull();
+        }
+        return datum;
+    }
+
+    /**
+     *  Removes the first element in the list, waiting as long as it
+     *  takes for one if the list is empty
+     *
+     *  @return the removed element
+     *
+     *  @throws InterruptedException if interrupted while waiting
+     */
+    public E take() throws InterruptedException
+    {
+        E datum;
+        int count;
+
+        myTakeLock.lockInterruptibly();
+        try
+        {
+            while(myCount.get() == 0)
+            {
+                myNotEmpty.await();
+            }
+            datum = this.dequeue();
+            count = myCount.getAndDecrement();
+            if(count > 1)
+            {
+                myNotEmpty.signal();
+            }
+        }
+        finally
+        {
+            myTakeLock.unlock();
+        }
+        if(count == myCapacity)
+        {
+            this.signalNotFull();
+        }
+        return datum;
+    }
+
+    /**
+     *  Removes up to max elements from the head of the list, adding
+     *  them to a collection in list order.  The head lock is taken once
+     *  for the whole batch, and the method does not wait for elements
+     *
+     *  <pre>
+     *  pre:  target is not this list
+     *  post: the first min(max, size) elements have moved from the
+     *        list to the end of target
+     *  </pre>
+     *
+     *  @param target the collection the elements are added to
+     *  @param max the most elements to be moved
+     *
+     *  @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> target, int max)
+    {
+        int drained = 0;
+        int count = 0;
+
+        if(target == null)
+        {
+            throw new NullPointerException();
+        }
+        if(max <= 0)
+        {
+            return 0;
+        }
+
+        myTakeLock.lock();
+        try
+        {
+            int length = Math.min(max, myCount.get());
+
+            try
+            {
+                while(drained < length)
+                {
+                    target.add(myHead.myNext.myData);
+                    this.dequeue();
+                    drained++;
+                }
+            }
+            finally
+            {
+                if(drained > 0)
+                {
+                    count = myCount.getAndAdd(-drained);
+                    if(count > drained)
+                    {
+                        myNotEmpty.signal();
+                    }
+                }
+            }
+        }
+        finally
+        {
+            myTakeLock.unlock();
+        }
+        if(count == myCapacity && drained > 0)
+        {
+            this.signalNotFull();
+        }
+        return drained;
+    }
+
+    /**
+     *  Removes every element in the list, adding them to a collection
+     *  in list order while holding the head lock once
+     *
+     *  @param target the collection the elements are added to
+     *
+     *  @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> target)
+    {
+        return this.drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     *  Method that gets the first element in the list without
+     *  removing it.
+     *  @return first element, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        Node<E> first;
+
+        if(myCount.get() == 0)
+        {
+            return null;
+        }
+        myTakeLock.lock();
+        try
+        {
+            first = myHead.myNext;
+            return (first == null) ? null : first.myData;
+        }
+        finally
+        {
+            myTakeLock.unlock();
+        }
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        return myCount.get();
+    }
+
+    /**
+     *  @return the number of elements that can be entered before the
+     *          list is full
+     */
+    public int remainingCapacity()
+    {
+        return myCapacity - myCount.get();
+    }
+
+    /**
+     *  print the list in the same format as {@link LinkedList#toString},
+     *  holding both locks so the list cannot change meanwhile
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        myPutLock.lock();
+        myTakeLock.lock();
+        try
+        {
+            for(Node<E> node = myHead.myNext; node != null; node = node.myNext)
+            {
+                string.append(node.myData).append(" -> ");
+            }
+        }
+        finally
+        {
+            myTakeLock.unlock();
+            myPutLock.unlock();
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Links a chain of nodes after the tail.  The caller holds the put
+     *  lock and has made sure there is room for them
+     *
+     *  @param first the first node of the chain
+     *  @param last the last node of the chain
+     *  @param length the number of nodes in the chain
+     *
+     *  @return the count of elements before the chain was linked
+     */
+    private int enqueue(Node<E> first, Node<E> last, int length)
+    {
+        int count;
+
+        myTail.myNext = first;
+        myTail = last;
+        count = myCount.getAndAdd(length);
+        if(count + length < myCapacity)
+        {
+            myNotFull.signal();
+        }
+        return count;
+    }
+
+    /**
+     *  Unlinks the first element; the node holding it becomes the new
+     *  dummy head.  The caller holds the take lock, has made sure the
+     *  list is not empty and updates the count
+     *
+     *  @return the element unlinked
+     */
+    private E dequeue()
+    {
+        Node<E> oldHead = myHead;
+        Node<E> first = oldHead.myNext;
+        E datum = first.myData;
+
+        oldHead.myNext = oldHead;
+        first.myData = null;
+        myHead = first;
+        return datum;
+    }
+
+    /**
+     *  Wakes a taker waiting for an element; called by a putter, after
+     *  releasing the put lock, when the list was empty
+     */
+    private void signalNotEmpty()
+    {
+        myTakeLock.lock();
+        try
+        {
+            myNotEmpty.signal();
+        }
+        finally
+        {
+            myTakeLock.unlock();
+        }
+    }
+
+    /**
+     *  Wakes a putter waiting for room; called by a taker, after
+     *  releasing the take lock, when the list was full
+     */
+    private void signalNotFull()
+    {
+        myPutLock.lock();
+        try
+        {
+            myNotFull.signal();
+        }
+        finally
+        {
+            myPutLock.unlock();
+        }
+    }
+
+    /**
+     *  Chains a node for each element of a collection, outside any lock
+     *
+     *  @param data the elements
+     *
+     *  @return the chain, or null if data is empty
+     */
+    private static <T> Chain<T> chainOf(Collection<? extends T> data)
+    {
+        Chain<T> chain = null;
+
+        for(T datum : data)
+        {
+            Node<T> node = new Node<T>(checkNotNull(datum));
+
+            if(chain == null)
+            {
+                chain = new Chain<T>(node);
+            }
+            else
+            {
+                chain.myLast.myNext = node;
+                chain.myLast = node;
+                chain.myLength++;
+            }
+        }
+        return chain;
+    }
+
+    private static <T> T checkNotNull(T datum)
+    {
+        if(datum == null)
+        {
+            throw new NullPointerException("Null elements are not supported");
+        }
+        return datum;
+    }
+
+    private static class Node<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private T myData;
+        private Node<T> myNext;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for a node with some object for its
+         *  data and null for a pointer to a next node
+         *
+         *  @param datum an object for the node's data
+         */
+        public Node(T datum)
+        {
+            myData = datum;
+            myNext = null;
+        }
+    }
+
+    private static class Chain<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private Node<T> myFirst;
+        private Node<T> myLast;
+        private int myLength;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for a chain of one node
+         *
+         *  @param node the only node of the chain
+         */
+        public Chain(Node<T> node)
+        {
+            myFirst = node;
+            myLast = node;
+            myLength = 1;
+        }
+    }
+}
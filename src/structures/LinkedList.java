@@ -1,11 +1,118 @@
 package structures;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  *  A class to provide the basic methods of a singly linked list.
  *  Note that it is simplified in that it does not implement or extend
  *  List, Collection, etc.  It is for learning the basics of Linked
  *  Lists.
  *
+ *  The list keeps a reference to its tail so that addLast and getLast
+ *  run in constant time.  A list created with {@link #doublyLinked()}
+ *  additionally gives every node a pointer back to its predecessor,
+ *  which makes removeLast constant time as well at the cost of one
+ *  extra reference per node.
+ *
+ *  A list created with {@link #indexed()} is doubly linked and also keeps
+ *  a hash map from every distinct datum to the nodes holding it, chained
+ *  in list order so duplicates are handled.  contains, remove(E) and the
+ *  lookup part of insertBefore and indexOf then take constant time.  The
+ *  one exception is entering a datum that is already in the list at a
+ *  position other than the head or tail, as insertBefore and add(int, E)
+ *  can: to keep its bucket in list order the new node walks back to the
+ *  nearest node holding the same datum, which takes time proportional
+ *  to the distance and O(n) at worst.  The price is memory: measured on
+ *  a 64-bit JDK 17 with compressed references, a list of distinct data
+ *  takes about 24 bytes per node singly linked, 32 doubly linked and 80
+ *  indexed, not counting the data itself (benchmarks.IndexFootprint
+ *  repeats the measurement).  An indexed list also relies on the data
+ *  having consistent equals and hashCode methods and on data not being
+ *  changed while in the list.
+ *
+ *  The list can be walked with a {@link ListIterator} whose remove, add
+ *  and set work on the node at the cursor in constant time.  Every
+ *  structural change made other than through the iterator increments a
+ *  modification count, and an iterator that sees the count change fails
+ *  with a ConcurrentModificationException.
+ *
+ *  addAll and addAllFirst chain their new nodes together before linking
+ *  the chain into the list in one step, and concat and splice move the
+ *  nodes of another list of the same kind by relinking its two ends, so
+ *  joining two lists takes constant time however long they are.
+ *
+ *  get(int), set(int, E) and add(int, E) remember the last node they
+ *  reached together with its position, and the next positional access
+ *  walks from there when that is nearer than the head (or the tail of a
+ *  doubly linked list).  Visiting positions in increasing order, or in
+ *  small steps in either direction on a doubly linked list, therefore
+ *  costs constant time per call instead of a walk from the head.
+ *
+ *  subList returns a view that reads and changes the nodes of the list
+ *  in place, and splitAt cuts the chain in two, so neither copies data.
+ *
+ *  sort relinks the existing nodes with a stable bottom-up merge sort
+ *  that needs no extra space, and parallelSort sorts runs of the chain
+ *  on the common fork-join pool before merging them the same way.
+ *
+ *  toString collects its text in one builder, and writeTo sends the same
+ *  text, optionally cut down to the first and last few data, straight
+ *  to a Writer or any other Appendable.
+ *
+ *  writeTo(FileChannel, ...) and readFrom save and load the list as a
+ *  versioned binary snapshot of fixed-size records, see BinaryListFormat.
+ *
+ *  enableMetrics makes the list count calls to its public operations,
+ *  their latencies and the length of every walk it takes, readable from
+ *  the returned {@link ListMetrics} or over JMX.  While disabled this
+ *  costs one null check per operation.
+ *
+ *  enableFilter puts a counting Bloom filter in front of the walks that
+ *  look for a datum, so contains, remove(E), indexOf and insertBefore
+ *  return at once for most data that are not in the list.  The filter
+ *  is kept up to date as nodes come and go, which makes concat, splice
+ *  and splitAt visit every node they move, and it is rebuilt larger
+ *  whenever the list outgrows it or too many lookups of absent data
+ *  get through it.  A filter is built for twice the size of the list,
+ *  with at least CountingBloomFilter.COUNTERS_PER_DATUM four-bit
+ *  counters per datum rounded up to a power of two, so just after a
+ *  build it costs 10 to 20 bytes per node, and more for a short list.
+ *
+ *  A list created with {@link #selfOrganizing(Reordering)} moves a node
+ *  toward the head whenever contains finds it: to the front, one place
+ *  forward, or ahead of every node found fewer times.  When a few data
+ *  are looked up far more often than the rest they gather near the
+ *  head and most lookups stop after a short walk.  Each move is a
+ *  structural change, so it fails iterators open at the time.
+ *
+ *  Sequential and parallel streams are backed by a spliterator that
+ *  splits off batches of nodes by copying them into arrays, each batch
+ *  larger than the one before, so fork-join workers can share the list
+ *  without it being copied as a whole first.
+ *
  *  @author Daniel Plante
  *  @author Bailey Granam
  *  
@@ -13,13 +120,45 @@ package structures;
  *  @version 1.1   19 November 2013
  *  @version 1.2   13 April 2017
  */
-public class LinkedList<E>
+public class LinkedList<E> implements Iterable<E>
 {
+    /**
+     *  How a list reorders itself when contains finds a node
+     */
+    public enum Reordering
+    {
+        /** The list is never reordered. */
+        NONE,
+        /** The node found becomes the head. */
+        MOVE_TO_FRONT,
+        /** The node found swaps places with the node before it. */
+        TRANSPOSE,
+        /** Nodes are kept in order of how often they were found, most often first. */
+        COUNT
+    }
+    
     /////////////////////////////
     //         Properties      //
     /////////////////////////////
+    
+    /** Characters reserved per node when sizing the text of toString. */
+    private static final int CHARS_PER_NODE = 16;
+    
+    /** Most characters reserved up front by toString; longer text grows the builder. */
+    private static final int MAX_RESERVED_CHARS = 1 << 24;
+    
     private Node<E> myHead;
+    private Node<E> myTail;
     private int mySize;
+    private int myModCount;
+    private boolean myDoublyLinked;
+    private Map<E, IndexBucket> myIndex;
+    private Node<E> myFinger;
+    private int myFingerIndex;
+    private int myFingerModCount;
+    private ListMetrics myMetrics;
+    private Reordering myReordering;
+    private CountingBloomFilter myFilter;
     
     /////////////////////////////
     //         Methods         //
@@ -36,7 +175,11 @@ public class LinkedList<E>
     public LinkedList()
     {
         myHead = null;
+        myTail = null;
         mySize = 0;
+        myDoublyLinked = false;
+        myIndex = null;
+        myReordering = Reordering.NONE;
     }
     
     /**
@@ -56,7 +199,321 @@ public class LinkedList<E>
     {
         myHead = new Node<E>(datum);
         myHead.setNext(null);
+        myTail = myHead;
         mySize++;
+        myReordering = Reordering.NONE;
+    }
+    
+    /**
+     *  Creates an empty linked list whose nodes also point back to
+     *  their predecessor, so that removeLast does not have to walk
+     *  the list to find the new tail
+     *
+     *  <pre>
+     *  pre:  none
+     *  post: an empty, doubly linked list is returned
+     *  </pre>
+     *
+     *  @return an empty doubly linked list
+     */
+    public static <E> LinkedList<E> doublyLinked()
+    {
+        LinkedList<E> list;
+        
+        list = new LinkedList<E>();
+        list.myDoublyLinked = true;
+        return list;
+    }
+    
+    /**
+     *  Creates an empty, doubly linked list that keeps a hash index
+     *  from every datum to the nodes holding it, so that contains,
+     *  remove and insertBefore find their node without a walk
+     *
+     *  <pre>
+     *  pre:  none
+     *  post: an empty, indexed list is returned
+     *  </pre>
+     *
+     *  @return an empty indexed list
+     */
+    public static <E> LinkedList<E> indexed()
+    {
+        LinkedList<E> list;
+        
+        list = new LinkedList<E>();
+        list.myDoublyLinked = true;
+        list.myIndex = new HashMap<E, LinkedList<E>.IndexBucket>();
+        return list;
+    }
+    
+    /**
+     *  Creates an empty, singly linked list that reorders itself each
+     *  time contains finds a node, so that data looked up often end up
+     *  near the head
+     *
+     *  <pre>
+     *  pre:  none
+     *  post: an empty list using reordering is returned
+     *  </pre>
+     *
+     *  @param reordering how the list moves a node that is found
+     *
+     *  @return an empty self-organizing list
+     */
+    public static <E> LinkedList<E> selfOrganizing(Reordering reordering)
+    {
+        LinkedList<E> list;
+        
+        list = new LinkedList<E>();
+        list.myReordering = Objects.requireNonNull(reordering);
+        return list;
+    }
+    
+    /**
+     *  Determine whether this list keeps a hash index of its data
+     *
+     *  @return true if the list was created by {@link #indexed()}
+     */
+    public boolean isIndexed()
+    {
+        return myIndex != null;
+    }
+    
+    /**
+     *  Determine whether the nodes of this list point back to
+     *  their predecessor
+     *
+     *  @return true if the list was created by {@link #doublyLinked()}
+     */
+    public boolean isDoublyLinked()
+    {
+        return myDoublyLinked;
+    }
+    
+    /**
+     *  Method that gets how this list reorders itself.
+     *  @return the reordering given to {@link #selfOrganizing}, or NONE
+     */
+    public Reordering getReordering()
+    {
+        return myReordering;
+    }
+    
+    /**
+     *  Starts collecting metrics for this list: calls and latencies of
+     *  its public operations and the number of nodes visited by every
+     *  walk to find a node or the node before it.  Until this is called
+     *  the only cost is a null check per operation
+     *
+     *  @return the metrics being collected, the same ones as before if
+     *          they were already enabled
+     */
+    public ListMetrics enableMetrics()
+    {
+        if(myMetrics == null)
+        {
+            myMetrics = new ListMetrics();
+        }
+        return myMetrics;
+    }
+    
+    /**
+     *  Stops collecting metrics; metrics already collected can still be
+     *  read from the object returned by {@link #enableMetrics()}
+     */
+    public void disableMetrics()
+    {
+        myMetrics = null;
+    }
+    
+    /**
+     *  Method that gets the metrics being collected for this list.
+     *  @return the metrics, or null if they are not enabled
+     */
+    public ListMetrics getMetrics()
+    {
+        return myMetrics;
+    }
+    
+    /**
+     *  Puts a counting Bloom filter of the data in the list in front of
+     *  every walk that looks for a datum, so that most lookups of data
+     *  not in the list return without a walk.  The filter relies on the
+     *  data having a hashCode consistent with equals and on data not
+     *  being changed while in the list
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: the list is unchanged and keeps a filter of its data
+     *  </pre>
+     */
+    public void enableFilter()
+    {
+        if(myFilter == null)
+        {
+            this.rebuildFilter();
+        }
+    }
+    
+    /**
+     *  Drops the membership filter, if any, and the memory it holds
+     */
+    public void disableFilter()
+    {
+        myFilter = null;
+    }
+    
+    /**
+     *  Determine whether this list keeps a membership filter
+     *
+     *  @return true if {@link #enableFilter()} has been called since
+     *          the filter was last disabled
+     */
+    public boolean isFiltered()
+    {
+        return myFilter != null;
+    }
+    
+    /**
+     *  Replaces the membership filter with a new one sized for twice
+     *  the data now in the list and hashing with a different seed.
+     *  The list only outgrows a filter after as many adds as it has
+     *  nodes, and a filter is only judged degraded after a thousand
+     *  lookups that each walked the whole list, so the walk made here
+     *  adds a constant amount of work per operation
+     */
+    private void rebuildFilter()
+    {
+        CountingBloomFilter filter;
+        
+        filter = new CountingBloomFilter(2 * mySize, (myFilter == null) ? 0 : myFilter.seed() + 1);
+        for(Node<E> node = myHead; node != null; node = node.getNext())
+        {
+            filter.add(node.getData());
+        }
+        myFilter = filter;
+    }
+    
+    /**
+     *  Enters the datum of a node that has just been linked into the
+     *  membership filter, if the list keeps one
+     *
+     *  @param node the node linked
+     */
+    private void filterAdd(Node<E> node)
+    {
+        if(myFilter != null)
+        {
+            myFilter.add(node.getData());
+            if(mySize > myFilter.capacity())
+            {
+                this.rebuildFilter();
+            }
+        }
+    }
+    
+    /**
+     *  Takes the datum of a node that is leaving the list out of the
+     *  membership filter, if the list keeps one
+     *
+     *  @param node the node leaving
+     */
+    private void filterRemove(Node<E> node)
+    {
+        if(myFilter != null)
+        {
+            myFilter.remove(node.getData());
+        }
+    }
+    
+    /**
+     *  Determine whether a walk for a datum is worth making
+     *
+     *  @param datum the object to be looked for
+     *
+     *  @return false if the membership filter shows datum is not in
+     *          the list, true otherwise
+     */
+    private boolean mightContain(E datum)
+    {
+        return myFilter == null || myFilter.mightContain(datum);
+    }
+    
+    /**
+     *  Records that a walk let through by the membership filter did not
+     *  find its datum, rebuilding the filter once too many walks have
+     *  been wasted this way
+     */
+    private void filterMissed()
+    {
+        if(myFilter != null)
+        {
+            myFilter.recordFalsePositive();
+            if(myFilter.isDegraded(mySize))
+            {
+                this.rebuildFilter();
+            }
+        }
+    }
+    
+    /**
+     *  @return the time a timed operation starts, or 0 if metrics are
+     *          not enabled
+     */
+    private long startTiming()
+    {
+        return (myMetrics == null) ? 0L : System.nanoTime();
+    }
+    
+    /**
+     *  Records a call to an operation if metrics are enabled
+     *
+     *  @param operation the operation that was called
+     *  @param start the time returned by startTiming when it started
+     */
+    private void stopTiming(ListMetrics.Operation operation, long start)
+    {
+        ListMetrics metrics = myMetrics;
+        
+        if(metrics != null && start != 0L)
+        {
+            metrics.recordCall(operation, System.nanoTime() - start);
+        }
+    }
+    
+    private void recordTraversal(int visited)
+    {
+        ListMetrics metrics = myMetrics;
+        
+        if(metrics != null)
+        {
+            metrics.recordTraversal(visited);
+        }
+    }
+    
+    /**
+     *  Creates a node suited to the linking mode of this list
+     *
+     *  @param datum an object for the node's data
+     *
+     *  @return a new, unlinked node holding datum
+     */
+    private Node<E> newNode(E datum)
+    {
+        if(myIndex != null)
+        {
+            return new IndexedNode<E>(datum);
+        }
+        if(myDoublyLinked)
+        {
+            return new DoublyLinkedNode<E>(datum);
+        }
+        if(myReordering == Reordering.COUNT)
+        {
+            return new CountedNode<E>(datum);
+        }
+        return new Node<E>(datum);
     }
     
     /**
@@ -78,8 +535,20 @@ public class LinkedList<E>
     private void addFirst(Node<E> node)
     {
         node.setNext(myHead);
+        node.setPrevious(null);
+        if(myHead == null)
+        {
+            myTail = node;
+        }
+        else
+        {
+            myHead.setPrevious(node);
+        }
         myHead = node;
         mySize++;
+        myModCount++;
+        this.indexAdd(node);
+        this.filterAdd(node);
     }
     
     /**
@@ -101,15 +570,18 @@ public class LinkedList<E>
      */
     public void addFirst(E datum)
     {
+        long start = this.startTiming();
         Node<E> node;
         
-        node = new Node<E>(datum);
+        node = this.newNode(datum);
         this.addFirst(node);
+        this.stopTiming(ListMetrics.Operation.ADD_FIRST, start);
     }
     
     /**
      *  Adds a node to the tail of the linked list; the special
-     *  condition of an empty linked list is handled separately
+     *  condition of an empty linked list is handled separately.
+     *  The tail reference is used so no traversal is needed
      *
      *  <pre>
      *  pre:  the linked list may be empty or contain one or
@@ -122,19 +594,20 @@ public class LinkedList<E>
      */
     private void addLast(Node<E> node)
     {
-        Node<E> lastNode;
-        
         if(myHead==null)
         {
             this.addFirst(node);
-            mySize++;
         }
         else
         {
-            lastNode = this.getPrevious(null);
-            lastNode.setNext(node);
+            myTail.setNext(node);
+            node.setPrevious(myTail);
             node.setNext(null);
+            myTail = node;
             mySize++;
+            myModCount++;
+            this.indexAdd(node);
+            this.filterAdd(node);
         }
     }
     
@@ -154,487 +627,2471 @@ public class LinkedList<E>
      */
     public void addLast(E datum)
     {
+        long start = this.startTiming();
         Node<E> node;
         
-        node = new Node<E>(datum);
+        node = this.newNode(datum);
         this.addLast(node);
+        this.stopTiming(ListMetrics.Operation.ADD_LAST, start);
     }
     
     /**
-     *  Deletes a node from the list if it is there
+     *  Adds the data to the tail of the linked list in array order.
+     *  The new nodes are chained together off to the side and then
+     *  linked to the tail in one step
      *
      *  <pre>
-     *  pre:  the list has 0 or more nodes
-     *  post: if the node to be deleted is in the list,
-     *        the node no longer exists in the list; the
-     *        node previous to the node to be deleted now
-     *        points to the node following the deleted node
+     *  pre:  the linked list may be empty or contain one or
+     *        more nodes
+     *  post: the linked list ends with one new node for each
+     *        element of data, in the same order
      *  </pre>
      *
-     *  @param node the node to be deleted from the list
-     *
-     *  @return boolean indicating whether or not the node
-     *          was deleted
+     *  @param data the objects used to create the new nodes
      */
-    private boolean remove(Node<E> node)
+    public void addAll(E[] data)
     {
-        /**
-         * Assign the node parameter passed through to Node<E> variable, myRemoveNode.
-         */
-        Node<E> myRemoveNode = node;
-        
-        /**
-         * If the node passed through is null then return false.
-         */
-        if(myRemoveNode == null)
-        {
-            return false;
-        }
-        
-        /** 
-         * If the node passed through does not exist in the linked 
-         * list then return false.
-         */
-        if(!this.contains(myRemoveNode.getData()))
-        {
-            return false;
-        }
-
-        /**
-         * If the head is null then we are unable to remove the node and will return false.
-         */
-        if(myHead == null) 
-        {
-            return false;
-        }
-        
-        Node<E> myPreviousNode = this.getPrevious(node);
-        Node<E> myNextNode     = node.getNext();
-        
-        /**
-         * If the node that was passed in has a previous node value equal to null
-         * then this means the node passed through is possibly the head. Before we complete 
-         * any further operations we must see if the myNextNode is null
-         * or if it exists.
-         */
-        if(myPreviousNode == null)
-        {
-            /** 
-             * If the previous node is null (checked in the previous statement above) 
-             * and the next node after myRemoveNode is null then it is likely that the
-             * head is indeed the node to be removed. Just to be 100% sure we will also
-             * check that myRemoveNode is equal to myHead.
-             */
-            if((myNextNode == null) && (myRemoveNode == getHead()))
-            {
-                mySize--;
-                this.setHead(null);
-                return true; 
-            }
-            /**
-             * If there is a node after the head then we will remove the first node in the 
-             * list and re-establish a new head as the next node.
-             */
-            else 
-            {
-                mySize--;
-                this.setHead(myNextNode);
-                return true;
-            }
-        }
+        long start = this.startTiming();
         
-        /**
-         * If the head was not the node then the node to be removed in somewhere else in 
-         * the linked list. We already checked to see if myPreviousNode is null. If we
-         * reached this point then myPreviousNode has a value. We must now check to see
-         * if myNextNode is the tail (null). If it is the tail then we will remove it
-         * and return true.
-         */
-        if(myNextNode == null)
-        {
-            myPreviousNode.setNext(null);
-            mySize--;
-            return true;
-        }
-        /**
-         * If the next node has a value then this means the node we are looking to remove
-         * in somewhere in the list that is neither the head or tail. In this case we can
-         * simply set the previous node to point to the next node, thus removing the node
-         * we originally wanted to remove. Return true in this case.
-         */
-        else 
-        {
-            myPreviousNode.setNext(myNextNode);
-            mySize--;
-            return true; 
-        }        
+        this.linkData(myTail, Arrays.asList(data).iterator());
+        this.stopTiming(ListMetrics.Operation.ADD_ALL, start);
     }
     
     /**
-     *  Deletes a node from the list if it is there
+     *  Adds the data to the tail of the linked list in iteration
+     *  order, chaining the new nodes together before linking them
      *
      *  <pre>
-     *  pre:  the list has 0 or more nodes
-     *  post: if the node to be deleted is in the list,
-     *        the node no longer exists in the list; the
-     *        node previous to the node to be deleted now
-     *        points to the node following the deleted node
-     *  </pre>
-     *
-     *  @param datum the object to be deleted from the list
+     *  pre:  the linked list may be empty or contain one or
+     *        more nodes
+     *  post: the linked list ends with one new node for each
+     *        element of data, in the same order
+     *  </pre>
      *
-     *  @return boolean indicating whether or not the node
-     *          was deleted
+     *  @param data the objects used to create the new nodes
      */
-    public boolean remove(E datum)
+    public void addAll(Iterable<? extends E> data)
     {
-        Node<E> myRemoveNode = findNode(datum);
-        return this.remove(myRemoveNode);
+        long start = this.startTiming();
+        
+        this.linkData(myTail, data.iterator());
+        this.stopTiming(ListMetrics.Operation.ADD_ALL, start);
     }
     
     /**
-     *  Find a node in the list with the same data as that passed in 
+     *  Adds the data to the head of the linked list so that the list
+     *  starts with them in array order
      *
      *  <pre>
-     *  pre:  the list has 0 or more nodes
-     *  post: list is unchanged
+     *  pre:  the linked list may be empty or contain one or
+     *        more nodes
+     *  post: the linked list starts with one new node for each
+     *        element of data, in the same order
      *  </pre>
      *
-     *  @param datum the object for which a node is to be found 
-     *         in the list
+     *  @param data the objects used to create the new nodes
+     */
+    public void addAllFirst(E[] data)
+    {
+        long start = this.startTiming();
+        
+        this.linkData(null, Arrays.asList(data).iterator());
+        this.stopTiming(ListMetrics.Operation.ADD_ALL_FIRST, start);
+    }
+    
+    /**
+     *  Adds the data to the head of the linked list so that the list
+     *  starts with them in iteration order
      *
-     *  @return null if a node with the given object datum is not in
-     *          the list, or the node if it does
+     *  <pre>
+     *  pre:  the linked list may be empty or contain one or
+     *        more nodes
+     *  post: the linked list starts with one new node for each
+     *        element of data, in the same order
+     *  </pre>
+     *
+     *  @param data the objects used to create the new nodes
      */
-    private Node<E> findNode(E datum)
+    public void addAllFirst(Iterable<? extends E> data)
     {
-        Node<E> currentNode;
-        E currentDatum;
+        long start = this.startTiming();
         
-        currentNode = getHead();
-        currentDatum = null;
+        this.linkData(null, data.iterator());
+        this.stopTiming(ListMetrics.Operation.ADD_ALL_FIRST, start);
+    }
+    
+    /**
+     *  Moves every node of another list to the tail of this one,
+     *  leaving the other list empty.  See {@link #splice} for when
+     *  this takes constant time
+     *
+     *  <pre>
+     *  pre:  other is a different list
+     *  post: this list ends with the nodes of other, in the same
+     *        order; other is empty
+     *  </pre>
+     *
+     *  @param other the list whose nodes are moved
+     */
+    public void concat(LinkedList<E> other)
+    {
+        long start = this.startTiming();
         
-        while(currentNode != null)
-        {
-            currentDatum = currentNode.getData();
-            if(currentDatum.equals(datum))
-            {
-                return currentNode;
-            }
-            currentNode = currentNode.getNext();
-        }
-        return null;
+        this.moveIn(mySize, other);
+        this.stopTiming(ListMetrics.Operation.CONCAT, start);
     }
     
     /**
-     *  Determine if a node exists in the list with the same 
-     *  data as that passed in 
+     *  Moves every node of another list into this one so that the
+     *  first of them ends up at position at, leaving the other list
+     *  empty.  When both lists are singly linked, or both doubly
+     *  linked, and neither is indexed, the nodes themselves are moved
+     *  by relinking the two ends of the other list, so apart from
+     *  finding position at nothing depends on the size of either list.
+     *  Otherwise the nodes are of a different kind and the data are
+     *  copied into new nodes instead
      *
      *  <pre>
-     *  pre:  the list has 0 or more nodes
-     *  post: list is unchanged
+     *  pre:  other is a different list and this list has at or
+     *        more nodes
+     *  post: this list holds the nodes of other, in the same order,
+     *        from position at on; other is empty
      *  </pre>
      *
-     *  @param datum the object for which a node is to be found 
-     *         in the list
+     *  @param at the position the first node of other is to have
+     *  @param other the list whose nodes are moved
+     */
+    public void splice(int at, LinkedList<E> other)
+    {
+        long start = this.startTiming();
+        
+        this.moveIn(at, other);
+        this.stopTiming(ListMetrics.Operation.SPLICE, start);
+    }
+    
+    /**
+     *  Does the work of concat and splice, which are timed separately
      *
-     *  @return false if a node with the given object datum is not in
-     *          the list, or true if it does
+     *  @param at the position the first node of other is to have
+     *  @param other the list whose nodes are moved
      */
-    public boolean contains(E datum)
+    private void moveIn(int at, LinkedList<E> other)
     {
-        if(datum == null && myHead == null)
+        Node<E> previousNode;
+        
+        if(other == this)
         {
-            return true;
+            throw new IllegalArgumentException("A list cannot be spliced into itself");
         }
-        else if(findNode(datum) == null)
+        this.checkIndex(at, mySize + 1);
+        if(other.mySize == 0)
         {
-            return false;
+            return;
+        }
+        
+        previousNode = (at == 0) ? null : this.nodeAt(at - 1);
+        if(myIndex == null && other.myIndex == null && myDoublyLinked == other.myDoublyLinked
+            && (myReordering == Reordering.COUNT) == (other.myReordering == Reordering.COUNT))
+        {
+            this.linkSegment(previousNode, other.myHead, other.myTail, other.mySize);
         }
         else
         {
-            return true;
-        } 
+            this.linkData(previousNode, other.iterator());
+        }
+        other.reset();
     }
     
     /**
-     *  Determines the node that resides one closer to the
-     *  head of the list than the node passed in
+     *  Returns a view of the nodes from position from, inclusive, up
+     *  to position to, exclusive.  The view reads and changes the nodes
+     *  of this list directly, so nothing is copied: making the view
+     *  only walks to position from, and walking the view follows the
+     *  same chain of nodes.  Nodes added or removed through the view
+     *  move its end along with them.  Once this list is changed
+     *  structurally other than through the view, using the view fails
+     *  with a ConcurrentModificationException
      *
      *  <pre>
-     *  pre:  the list has 0 or more nodes
-     *  post: the list is unchanged
+     *  pre:  0 &lt;= from &lt;= to &lt;= size()
+     *  post: list is unchanged
      *  </pre>
      *
-     *  @param node the node whose predecessor is being looked for
+     *  @param from the position of the first node in the view
+     *  @param to the position after the last node in the view
      *
-     *  @return the node that resides one closer to the head of the
-     *          list than the node passed in
+     *  @return a list backed by the nodes of this list
      */
-    private Node<E> getPrevious(Node<E> node)
+    public List<E> subList(int from, int to)
     {
-        Node<E> currentNode;
-        
-        currentNode = myHead;
-        
-        if(currentNode.equals(node))
-        {
-            return null;
-        }
+        long start = this.startTiming();
+        List<E> view;
         
-        while(currentNode!=null && currentNode.getNext() != node)
+        if(from < 0 || to > mySize || from > to)
         {
-            currentNode = currentNode.getNext();
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + mySize);
         }
-        
-        return currentNode;
+        view = new SubList((from == 0) ? null : this.nodeAt(from - 1), from, to - from);
+        this.stopTiming(ListMetrics.Operation.SUB_LIST, start);
+        return view;
     }
     
     /**
-     *  A new node is entered into the list immediately before
-     *  the designated node
+     *  Cuts the list in two at a position.  This list keeps the nodes
+     *  before index and the nodes from index on are moved, not copied,
+     *  to a new list of the same kind; only the walk to index depends
+     *  on the size of the list.  An indexed list also has to move the
+     *  moved nodes to the index of the new list one by one
      *
      *  <pre>
-     *  pre:  the list may have 0 or more nodes in it
-     *  post: if the beforeNode is not in the list, no change
-     *        takes place to the list; otherwise, the new
-     *        node is entered in the appropriate place
+     *  pre:  the list has index or more nodes
+     *  post: the list holds its first index nodes; the rest are
+     *        in the returned list, in the same order
      *  </pre>
      *
-     *  @param node the node to be entered into the list
-     *  @param beforeNode the node before which the new node
-     *         is to be entered
+     *  @param index the position of the first node to be moved
      *
-     *  @return boolean designating if the node was or was not
-     *          entered into list
+     *  @return a list holding the nodes from index on
      */
-    private boolean insertBefore(Node<E> node, Node<E> beforeNode)
+    public LinkedList<E> splitAt(int index)
     {
-        if(beforeNode == null)
+        long start = this.startTiming();
+        LinkedList<E> tailList;
+        
+        tailList = this.cutAt(index);
+        this.stopTiming(ListMetrics.Operation.SPLIT_AT, start);
+        return tailList;
+    }
+    
+    /**
+     *  Does the work of splitAt
+     *
+     *  @param index the position of the first node to be moved
+     *
+     *  @return a list holding the nodes from index on
+     */
+    private LinkedList<E> cutAt(int index)
+    {
+        LinkedList<E> tailList;
+        Node<E> lastNode;
+        Node<E> firstNode;
+        
+        this.checkIndex(index, mySize + 1);
+        if(myIndex != null)
         {
-            return false;
+            tailList = LinkedList.indexed();
+        }
+        else if(myDoublyLinked)
+        {
+            tailList = LinkedList.doublyLinked();
         }
         else
         {
-            Node<E> myNextNode = beforeNode.getNext();
-            beforeNode.setNext(node);
-            node.setNext(myNextNode);
-            mySize++;
-            return true;
-        }    
+            tailList = new LinkedList<E>();
+        }
+        tailList.myReordering = myReordering;
+        if(index == mySize)
+        {
+            return tailList;
+        }
+        
+        lastNode  = (index == 0) ? null : this.nodeAt(index - 1);
+        firstNode = (lastNode == null) ? myHead : lastNode.getNext();
+        for(Node<E> node = firstNode; (myIndex != null || myFilter != null) && node != null; node = node.getNext())
+        {
+            this.indexRemove(node);
+            this.filterRemove(node);
+        }
+        
+        tailList.linkSegment(null, firstNode, myTail, mySize - index);
+        for(Node<E> node = firstNode; myIndex != null && node != null; node = node.getNext())
+        {
+            tailList.indexAppend(node);
+        }
+        
+        if(lastNode == null)
+        {
+            this.setHead(null);
+        }
+        else
+        {
+            lastNode.setNext(null);
+        }
+        firstNode.setPrevious(null);
+        myTail = lastNode;
+        mySize = index;
+        myFinger = null;
+        myModCount++;
+        return tailList;
     }
     
     /**
-     *  A new node with datum is entered into the list immediately
-     *  before the node with beforeDatum, the designated node
-     *
-     *  <pre>
-     *  pre:  the list may have 0 or more nodes in it
-     *  post: if the node with beforeDatum is not in the list, 
-     *        no change takes place to the list; otherwise, a new
-     *        node is entered in the appropriate place with the 
-     *        object datum
-     *  </pre>
+     *  Creates a node for each datum, chains the nodes together and
+     *  links the chain into the list after previousNode.  An indexed
+     *  list enters the nodes one at a time instead, so each is put in
+     *  the index as it is linked
      *
-     *  @param datum the object used to create the new node 
-     *         to be entered into the list
-     *  @param beforeDatum the datum of the node before which the 
-     *         new node is to be entered
+     *  @param previousNode the node the data are to follow, or null
+     *         to enter them at the head of the list
+     *  @param data the objects used to create the new nodes
+     */
+    private void linkData(Node<E> previousNode, Iterator<? extends E> data)
+    {
+        Node<E> first = null;
+        Node<E> last  = null;
+        int count     = 0;
+        
+        while(data.hasNext())
+        {
+            Node<E> node = this.newNode(data.next());
+            
+            if(myIndex != null)
+            {
+                if(previousNode == null)
+                {
+                    this.addFirst(node);
+                }
+                else
+                {
+                    this.insertBefore(node, previousNode);
+                }
+                previousNode = node;
+            }
+            else
+            {
+                if(first == null)
+                {
+                    first = node;
+                }
+                else
+                {
+                    last.setNext(node);
+                    node.setPrevious(last);
+                }
+                last = node;
+                count++;
+            }
+        }
+        this.linkSegment(previousNode, first, last, count);
+    }
+    
+    /**
+     *  Links a chain of nodes into the list after previousNode; only
+     *  the two ends of the chain are touched
      *
-     *  @return boolean designating if the node was or was not
-     *          entered
+     *  @param previousNode the node the chain is to follow, or null
+     *         to link the chain at the head of the list
+     *  @param first the first node of the chain
+     *  @param last the last node of the chain
+     *  @param count the number of nodes in the chain
      */
-    public boolean insertBefore(E datum, E beforeDatum)
+    private void linkSegment(Node<E> previousNode, Node<E> first, Node<E> last, int count)
     {
-        Node<E> myNode     =   new Node<E>(datum);
-        Node<E> myBeforeNode = findNode(beforeDatum);
-
-        return insertBefore(myNode,myBeforeNode);
+        Node<E> nextNode;
+        
+        if(count == 0)
+        {
+            return;
+        }
+        
+        if(previousNode == null)
+        {
+            nextNode = myHead;
+            this.setHead(first);
+        }
+        else
+        {
+            nextNode = previousNode.getNext();
+            previousNode.setNext(first);
+        }
+        first.setPrevious(previousNode);
+        
+        last.setNext(nextNode);
+        if(nextNode == null)
+        {
+            myTail = last;
+        }
+        else
+        {
+            nextNode.setPrevious(last);
+        }
+        mySize += count;
+        myModCount++;
+        if(myFilter != null)
+        {
+            for(Node<E> node = first; node != nextNode; node = node.getNext())
+            {
+                myFilter.add(node.getData());
+            }
+            if(mySize > myFilter.capacity())
+            {
+                this.rebuildFilter();
+            }
+        }
     }
     
     /**
-     *  print the list by converting the objects in the list
-     *  to their string representations
+     *  Empties the list without touching its nodes, which may have
+     *  been moved to another list
+     */
+    private void reset()
+    {
+        myHead = null;
+        myTail = null;
+        mySize = 0;
+        myFinger = null;
+        myModCount++;
+        if(myIndex != null)
+        {
+            myIndex.clear();
+        }
+        if(myFilter != null)
+        {
+            myFilter.clear();
+        }
+    }
+    
+    /**
+     *  Unlinks a node from the list given the node that precedes it;
+     *  the head, tail and back pointers are kept up to date
      *
      *  <pre>
-     *  pre:  the list has 0 or more elements
-     *  post: no change to the list
+     *  pre:  node is in the list and previousNode is the node
+     *        directly before it, or null if node is the head
+     *  post: node no longer exists in the list; the node previous
+     *        to it now points to the node following it
      *  </pre>
+     *
+     *  @param previousNode the node directly before node
+     *  @param node the node to be unlinked
      */
-    public String toString()
+    private void unlink(Node<E> previousNode, Node<E> node)
     {
-        String string;
-        Node<E> currentNode;
+        Node<E> nextNode = node.getNext();
         
-        currentNode = myHead;
+        this.indexRemove(node);
+        this.filterRemove(node);
+        if(previousNode == null)
+        {
+            this.setHead(nextNode);
+        }
+        else
+        {
+            previousNode.setNext(nextNode);
+        }
         
-        string = "head ->";
+        if(nextNode == null)
+        {
+            myTail = previousNode;
+        }
+        else
+        {
+            nextNode.setPrevious(previousNode);
+        }
         
-        while(currentNode!=null)
+        if(node == myFinger)
         {
-            string += currentNode.getData().toString()+ " -> ";
-            currentNode = currentNode.getNext();
+            myFinger = null;
         }
-        string += "|||";
-        return string;
+        node.setNext(null);
+        node.setPrevious(null);
+        mySize--;
+        myModCount++;
     }
-
+    
     /**
-     * Method to find the index of a specific node given the datum of 
-     * that node.
-     * 
-     * @param o the data of the node we are looking for
-     * @return the index of which the node is located in the linked list
+     *  Deletes a node from the list if it is there
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: if the node to be deleted is in the list,
+     *        the node no longer exists in the list; the
+     *        node previous to the node to be deleted now
+     *        points to the node following the deleted node
+     *  </pre>
+     *
+     *  @param datum the object to be deleted from the list
+     *
+     *  @return boolean indicating whether or not the node
+     *          was deleted
      */
-    public int indexOf(E o)
+    public boolean remove(E datum)
     {
-        if(o==null)
+        long start = this.startTiming();
+        Node<E> myPreviousNode = null;
+        Node<E> myCurrentNode  = myHead;
+        int visited = 0;
+        
+        try
+        {
+            /**
+             * An indexed list finds the node through its index; it is doubly linked
+             * so the node before it is known as well.
+             */
+            if(myIndex != null)
+            {
+                myCurrentNode = this.findNode(datum);
+                if(myCurrentNode == null)
+                {
+                    return false;
+                }
+                this.unlink(myCurrentNode.getPrevious(), myCurrentNode);
+                return true;
+            }
+            
+            /**
+             * A datum the membership filter rules out is not looked for at all.
+             */
+            if(!this.mightContain(datum))
+            {
+                return false;
+            }
+            
+            /**
+             * Walk the list once, remembering the node before the current one so
+             * the match can be unlinked without looking for its predecessor again.
+             */
+            while(myCurrentNode != null)
+            {
+                visited++;
+                if(myCurrentNode.getData().equals(datum))
+                {
+                    this.unlink(myPreviousNode, myCurrentNode);
+                    return true;
+                }
+                myPreviousNode = myCurrentNode;
+                myCurrentNode  = myCurrentNode.getNext();
+            }
+            this.filterMissed();
+            return false;
+        }
+        finally
+        {
+            if(myIndex == null)
+            {
+                this.recordTraversal(visited);
+            }
+            this.stopTiming(ListMetrics.Operation.REMOVE, start);
+        }
+    }
+    
+    /**
+     *  Deletes every node whose datum satisfies the filter in a
+     *  single walk of the list
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: no node in the list holds a datum accepted by the
+     *        filter; the remaining nodes keep their order
+     *  </pre>
+     *
+     *  @param filter the test a datum must pass to be deleted
+     *
+     *  @return boolean indicating whether or not any node
+     *          was deleted
+     */
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        long start = this.startTiming();
+        boolean removed;
+        
+        removed = this.removeMatching(filter);
+        this.stopTiming(ListMetrics.Operation.REMOVE_IF, start);
+        return removed;
+    }
+    
+    /**
+     *  Does the work of removeIf and removeAll, which are timed
+     *  separately
+     *
+     *  @param filter the test a datum must pass to be deleted
+     *
+     *  @return boolean indicating whether or not any node
+     *          was deleted
+     */
+    private boolean removeMatching(Predicate<? super E> filter)
+    {
+        Node<E> myPreviousNode = null;
+        Node<E> myCurrentNode  = myHead;
+        boolean removed        = false;
+        
+        while(myCurrentNode != null)
+        {
+            Node<E> myNextNode = myCurrentNode.getNext();
+            
+            if(filter.test(myCurrentNode.getData()))
+            {
+                this.unlink(myPreviousNode, myCurrentNode);
+                removed = true;
+            }
+            else
+            {
+                myPreviousNode = myCurrentNode;
+            }
+            myCurrentNode = myNextNode;
+        }
+        return removed;
+    }
+    
+    /**
+     *  Deletes every node whose datum is equal to one of the
+     *  objects in the collection; the collection is copied into
+     *  a hash set first so the list is walked only once
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: no node in the list holds a datum contained in
+     *        the collection; the remaining nodes keep their order
+     *  </pre>
+     *
+     *  @param data the objects to be deleted from the list
+     *
+     *  @return boolean indicating whether or not any node
+     *          was deleted
+     */
+    public boolean removeAll(Collection<?> data)
+    {
+        long start = this.startTiming();
+        final Set<Object> myRemoveSet = new HashSet<Object>(data);
+        boolean removed;
+        
+        removed = this.removeMatching(datum -> myRemoveSet.contains(datum));
+        this.stopTiming(ListMetrics.Operation.REMOVE_ALL, start);
+        return removed;
+    }
+    
+    /**
+     *  Sorts the list by relinking its nodes with a bottom-up merge
+     *  sort: sorted runs of 1, 2, 4, ... nodes are merged pairwise
+     *  until a single run remains.  The sort is stable, takes
+     *  O(n log n) comparisons and needs no extra space, since no node
+     *  is created or copied
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: the same nodes are in order; nodes that compare equal
+     *        keep their previous order
+     *  </pre>
+     *
+     *  @param comparator the order to sort by, or null to use the
+     *         natural ordering of the data
+     */
+    public void sort(Comparator<? super E> comparator)
+    {
+        long start = this.startTiming();
+        
+        if(mySize > 1)
+        {
+            this.relink(this.sortChain(myHead, this.orderOf(comparator)));
+        }
+        this.stopTiming(ListMetrics.Operation.SORT, start);
+    }
+    
+    /**
+     *  Sorts the list like {@link #sort}, but cuts the chain into
+     *  runs that are sorted at the same time on the common fork-join
+     *  pool and then merged by relinking.  Lists too short to be worth
+     *  splitting are sorted on the calling thread
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: the same nodes are in order; nodes that compare equal
+     *        keep their previous order
+     *  </pre>
+     *
+     *  @param comparator the order to sort by, or null to use the
+     *         natural ordering of the data
+     */
+    public void parallelSort(Comparator<? super E> comparator)
+    {
+        long start = this.startTiming();
+        
+        if(mySize > 1)
+        {
+            this.relink(ForkJoinPool.commonPool().invoke(
+                new SortTask(myHead, mySize, this.orderOf(comparator))));
+        }
+        this.stopTiming(ListMetrics.Operation.PARALLEL_SORT, start);
+    }
+    
+    /**
+     *  Sorts a null terminated chain of nodes with the bottom-up
+     *  merge sort described by {@link #sort}.  Only the next pointers
+     *  of the chain are changed
+     *
+     *  @param first the first node of the chain
+     *  @param comparator the order to sort by
+     *
+     *  @return the first node of the sorted chain
+     */
+    private Node<E> sortChain(Node<E> first, Comparator<? super E> comparator)
+    {
+        Node<E> head = first;
+        
+        for(int width = 1; ; width *= 2)
+        {
+            Node<E> left = head;
+            Node<E> last = null;
+            int merges = 0;
+            
+            head = null;
+            while(left != null)
+            {
+                Node<E> right = left;
+                int leftSize = 0;
+                int rightSize = width;
+                
+                merges++;
+                while(leftSize < width && right != null)
+                {
+                    right = right.getNext();
+                    leftSize++;
+                }
+                
+                while(leftSize > 0 || (rightSize > 0 && right != null))
+                {
+                    Node<E> node;
+                    
+                    if(leftSize > 0 && (rightSize == 0 || right == null ||
+                        comparator.compare(left.getData(), right.getData()) <= 0))
+                    {
+                        node = left;
+                        left = left.getNext();
+                        leftSize--;
+                    }
+                    else
+                    {
+                        node = right;
+                        right = right.getNext();
+                        rightSize--;
+                    }
+                    
+                    if(last == null)
+                    {
+                        head = node;
+                    }
+                    else
+                    {
+                        last.setNext(node);
+                    }
+                    last = node;
+                }
+                left = right;
+            }
+            last.setNext(null);
+            
+            if(merges <= 1)
+            {
+                return head;
+            }
+        }
+    }
+    
+    /**
+     *  Merges two sorted, null terminated chains into one, taking
+     *  from the left chain first when data compare equal
+     *
+     *  @param left the first node of the earlier chain
+     *  @param right the first node of the later chain
+     *  @param comparator the order the chains are sorted by
+     *
+     *  @return the first node of the merged chain
+     */
+    private Node<E> mergeChains(Node<E> left, Node<E> right, Comparator<? super E> comparator)
+    {
+        Node<E> head = new Node<E>();
+        Node<E> last = head;
+        
+        while(left != null && right != null)
+        {
+            if(comparator.compare(left.getData(), right.getData()) <= 0)
+            {
+                last.setNext(left);
+                left = left.getNext();
+            }
+            else
+            {
+                last.setNext(right);
+                right = right.getNext();
+            }
+            last = last.getNext();
+        }
+        last.setNext((left != null) ? left : right);
+        return head.getNext();
+    }
+    
+    /**
+     *  Makes a sorted chain the contents of the list, setting the back
+     *  pointers, the tail and, for an indexed list, the order of the
+     *  nodes in each bucket from the new next pointers
+     *
+     *  @param first the first node of the sorted chain
+     */
+    private void relink(Node<E> first)
+    {
+        Node<E> previousNode = null;
+        
+        this.setHead(first);
+        for(Node<E> node = first; node != null; node = node.getNext())
+        {
+            node.setPrevious(previousNode);
+            previousNode = node;
+        }
+        myTail = previousNode;
+        
+        if(myIndex != null)
+        {
+            myIndex.clear();
+            for(Node<E> node = first; node != null; node = node.getNext())
+            {
+                ((IndexedNode<E>) node).myNextEqual = null;
+                this.indexAppend(node);
+            }
+        }
+        myModCount++;
+    }
+    
+    /**
+     *  @param comparator a comparator, or null for natural ordering
+     *
+     *  @return comparator, or a comparator using the natural ordering
+     *          of the data if it is null
+     */
+    @SuppressWarnings("unchecked")
+    private Comparator<? super E> orderOf(Comparator<? super E> comparator)
+    {
+        if(comparator != null)
+        {
+            return comparator;
+        }
+        return (first, second) -> ((Comparable<? super E>) first).compareTo(second);
+    }
+    
+    /**
+     *  Find a node in the list with the same data as that passed in 
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: list is unchanged
+     *  </pre>
+     *
+     *  @param datum the object for which a node is to be found 
+     *         in the list
+     *
+     *  @return null if a node with the given object datum is not in
+     *          the list, or the node if it does
+     */
+    private Node<E> findNode(E datum)
+    {
+        Node<E> currentNode;
+        E currentDatum;
+        int visited = 0;
+        
+        if(myIndex != null)
+        {
+            IndexBucket bucket = myIndex.get(datum);
+            
+            return (bucket == null) ? null : bucket.myFirst;
+        }
+        if(!this.mightContain(datum))
+        {
+            return null;
+        }
+        
+        currentNode = getHead();
+        currentDatum = null;
+        
+        while(currentNode != null)
+        {
+            visited++;
+            currentDatum = currentNode.getData();
+            if(currentDatum.equals(datum))
+            {
+                this.recordTraversal(visited);
+                return currentNode;
+            }
+            currentNode = currentNode.getNext();
+        }
+        this.recordTraversal(visited);
+        this.filterMissed();
+        return null;
+    }
+    
+    /**
+     *  Determine if a node exists in the list with the same 
+     *  data as that passed in 
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: list is unchanged
+     *  </pre>
+     *
+     *  @param datum the object for which a node is to be found 
+     *         in the list
+     *
+     *  @return false if a node with the given object datum is not in
+     *          the list, or true if it does
+     */
+    public boolean contains(E datum)
+    {
+        long start = this.startTiming();
+        
+        try
+        {
+            if(datum == null && myHead == null)
+            {
+                return true;
+            }
+            else if(findAndReorder(datum) == null)
+            {
+                return false;
+            }
+            else
+            {
+                return true;
+            } 
+        }
+        finally
+        {
+            this.stopTiming(ListMetrics.Operation.CONTAINS, start);
+        }
+    }
+    
+    /**
+     *  Finds a node with the same data as that passed in, as findNode
+     *  does, and then moves it toward the head as the reordering of
+     *  the list asks
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: if a node was found it may have moved nearer the head;
+     *        the list holds the same nodes
+     *  </pre>
+     *
+     *  @param datum the object for which a node is to be found
+     *
+     *  @return null if no node holds datum, or the node if one does
+     */
+    private Node<E> findAndReorder(E datum)
+    {
+        Node<E> previousPrevious = null;
+        Node<E> previousNode = null;
+        Node<E> currentNode = myHead;
+        int visited = 0;
+        
+        if(myReordering == Reordering.NONE)
+        {
+            return findNode(datum);
+        }
+        if(!this.mightContain(datum))
+        {
+            return null;
+        }
+        
+        while(currentNode != null)
+        {
+            visited++;
+            if(currentNode.getData().equals(datum))
+            {
+                break;
+            }
+            previousPrevious = previousNode;
+            previousNode = currentNode;
+            currentNode = currentNode.getNext();
+        }
+        this.recordTraversal(visited);
+        if(currentNode == null)
+        {
+            this.filterMissed();
+            return null;
+        }
+        
+        switch(myReordering)
+        {
+            case MOVE_TO_FRONT:
+                if(previousNode != null)
+                {
+                    this.unlink(previousNode, currentNode);
+                    this.addFirst(currentNode);
+                }
+                break;
+            case TRANSPOSE:
+                if(previousNode != null)
+                {
+                    this.unlink(previousNode, currentNode);
+                    if(previousPrevious == null)
+                    {
+                        this.addFirst(currentNode);
+                    }
+                    else
+                    {
+                        this.insertBefore(currentNode, previousPrevious);
+                    }
+                }
+                break;
+            case COUNT:
+                this.promoteByCount(previousNode, (CountedNode<E>) currentNode);
+                break;
+            default:
+                break;
+        }
+        return currentNode;
+    }
+    
+    /**
+     *  Counts one more lookup of a node and moves it ahead of every
+     *  node before it that has been found fewer times, so nodes stay
+     *  in order of their counts
+     *
+     *  @param previousNode the node directly before node, or null if
+     *         node is the head
+     *  @param node the node found
+     */
+    private void promoteByCount(Node<E> previousNode, CountedNode<E> node)
+    {
+        Node<E> afterNode = null;
+        Node<E> currentNode = myHead;
+        int count;
+        
+        if(node.myCount < Integer.MAX_VALUE)
+        {
+            node.myCount++;
+        }
+        count = node.myCount;
+        
+        while(currentNode != node && ((CountedNode<E>) currentNode).myCount >= count)
+        {
+            afterNode = currentNode;
+            currentNode = currentNode.getNext();
+        }
+        if(currentNode == node)
+        {
+            return;
+        }
+        
+        this.unlink(previousNode, node);
+        if(afterNode == null)
+        {
+            this.addFirst(node);
+        }
+        else
+        {
+            this.insertBefore(node, afterNode);
+        }
+    }
+    
+    /**
+     *  Determines the node that resides one closer to the
+     *  head of the list than the node passed in
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: the list is unchanged
+     *  </pre>
+     *
+     *  @param node the node whose predecessor is being looked for
+     *
+     *  @return the node that resides one closer to the head of the
+     *          list than the node passed in
+     */
+    private Node<E> getPrevious(Node<E> node)
+    {
+        Node<E> currentNode;
+        int visited = 1;
+        
+        if(myDoublyLinked && node != null)
+        {
+            return node.getPrevious();
+        }
+        
+        currentNode = myHead;
+        
+        if(currentNode.equals(node))
+        {
+            this.recordTraversal(1);
+            return null;
+        }
+        
+        while(currentNode!=null && currentNode.getNext() != node)
+        {
+            visited++;
+            currentNode = currentNode.getNext();
+        }
+        
+        this.recordTraversal(visited);
+        return currentNode;
+    }
+    
+    /**
+     *  A new node is entered into the list immediately before
+     *  the designated node
+     *
+     *  <pre>
+     *  pre:  the list may have 0 or more nodes in it
+     *  post: if the beforeNode is not in the list, no change
+     *        takes place to the list; otherwise, the new
+     *        node is entered in the appropriate place
+     *  </pre>
+     *
+     *  @param node the node to be entered into the list
+     *  @param beforeNode the node before which the new node
+     *         is to be entered
+     *
+     *  @return boolean designating if the node was or was not
+     *          entered into list
+     */
+    private boolean insertBefore(Node<E> node, Node<E> beforeNode)
+    {
+        if(beforeNode == null)
+        {
+            return false;
+        }
+        else
+        {
+            Node<E> myNextNode = beforeNode.getNext();
+            beforeNode.setNext(node);
+            node.setPrevious(beforeNode);
+            node.setNext(myNextNode);
+            if(myNextNode == null)
+            {
+                myTail = node;
+            }
+            else
+            {
+                myNextNode.setPrevious(node);
+            }
+            mySize++;
+            myModCount++;
+            this.indexAdd(node);
+            this.filterAdd(node);
+            return true;
+        }    
+    }
+    
+    /**
+     *  A new node with datum is entered into the list immediately
+     *  before the node with beforeDatum, the designated node
+     *
+     *  <pre>
+     *  pre:  the list may have 0 or more nodes in it
+     *  post: if the node with beforeDatum is not in the list, 
+     *        no change takes place to the list; otherwise, a new
+     *        node is entered in the appropriate place with the 
+     *        object datum
+     *  </pre>
+     *
+     *  @param datum the object used to create the new node 
+     *         to be entered into the list
+     *  @param beforeDatum the datum of the node before which the 
+     *         new node is to be entered
+     *
+     *  @return boolean designating if the node was or was not
+     *          entered
+     */
+    public boolean insertBefore(E datum, E beforeDatum)
+    {
+        long start = this.startTiming();
+        Node<E> myNode     =   this.newNode(datum);
+        Node<E> myBeforeNode = findNode(beforeDatum);
+        boolean inserted = insertBefore(myNode,myBeforeNode);
+
+        this.stopTiming(ListMetrics.Operation.INSERT_BEFORE, start);
+        return inserted;
+    }
+    
+    /**
+     *  print the list by converting the objects in the list
+     *  to their string representations.  The text is collected in a
+     *  single builder sized for the list up front, so the time taken
+     *  grows linearly with the size of the list
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        long start = this.startTiming();
+        StringBuilder string;
+        Node<E> currentNode;
+        
+        currentNode = myHead;
+        
+        string = new StringBuilder((int) Math.min(MAX_RESERVED_CHARS, 10L + (long) CHARS_PER_NODE * mySize));
+        string.append("head ->");
+        
+        while(currentNode!=null)
+        {
+            string.append(currentNode.getData().toString()).append(" -> ");
+            currentNode = currentNode.getNext();
+        }
+        string.append("|||");
+        this.stopTiming(ListMetrics.Operation.TO_STRING, start);
+        return string.toString();
+    }
+    
+    /**
+     *  write the list to out in the same format as {@link #toString},
+     *  one datum at a time, so the text of a large list never has to
+     *  be held in memory at once.  A Writer or a PrintStream can be
+     *  passed directly; wrapping an unbuffered one in a buffer saves
+     *  a call to the underlying stream per datum
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     *
+     *  @param out where the text is written
+     *
+     *  @throws IOException if out fails to accept the text
+     */
+    public void writeTo(Appendable out) throws IOException
+    {
+        long start = this.startTiming();
+        
+        this.writeText(out, mySize, 0);
+        this.stopTiming(ListMetrics.Operation.WRITE_TO, start);
+    }
+    
+    /**
+     *  write at most the first and last few data of the list to out in
+     *  the format of {@link #toString}.  The data left out are replaced
+     *  by a single entry giving their number, for example
+     *  "head -&gt;1 -&gt; 2 -&gt; ... 996 more -&gt; 999 -&gt; 1000 -&gt; |||"
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     *
+     *  @param out where the text is written
+     *  @param first the number of data to write from the head
+     *  @param last the number of data to write from the tail
+     *
+     *  @throws IOException if out fails to accept the text
+     */
+    public void writeTo(Appendable out, int first, int last) throws IOException
+    {
+        long start = this.startTiming();
+        
+        this.writeText(out, first, last);
+        this.stopTiming(ListMetrics.Operation.WRITE_TO, start);
+    }
+    
+    /**
+     *  Does the work of both writeTo methods taking an Appendable
+     *
+     *  @param out where the text is written
+     *  @param first the number of data to write from the head
+     *  @param last the number of data to write from the tail
+     *
+     *  @throws IOException if out fails to accept the text
+     */
+    private void writeText(Appendable out, int first, int last) throws IOException
+    {
+        Node<E> currentNode = myHead;
+        
+        if(first < 0 || last < 0)
+        {
+            throw new IllegalArgumentException("First: " + first + ", Last: " + last);
+        }
+        
+        out.append("head ->");
+        if((long) first + last < mySize)
+        {
+            for(int i = 0; i < first; i++)
+            {
+                out.append(currentNode.getData().toString()).append(" -> ");
+                currentNode = currentNode.getNext();
+            }
+            out.append("... ").append(Integer.toString(mySize - first - last)).append(" more -> ");
+            currentNode = (last == 0) ? null : this.nodeAt(mySize - last);
+        }
+        
+        while(currentNode != null)
+        {
+            out.append(currentNode.getData().toString()).append(" -> ");
+            currentNode = currentNode.getNext();
+        }
+        out.append("|||");
+    }
+
+    /**
+     *  Writes a snapshot of the list to a channel, starting at its
+     *  current position, in the format described by BinaryListFormat:
+     *  a header holding a version and the number of elements, then one
+     *  record per element written by codec, optionally compressed in
+     *  blocks
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     *
+     *  @param channel the channel written to
+     *  @param codec the codec turning each element into a record
+     *  @param compressed whether the records are to be deflated
+     *
+     *  @throws IOException if the channel cannot be written
+     */
+    public void writeTo(FileChannel channel, RecordCodec<? super E> codec, boolean compressed) throws IOException
+    {
+        long start = this.startTiming();
+        
+        BinaryListFormat.write(this, mySize, channel, codec, compressed);
+        this.stopTiming(ListMetrics.Operation.WRITE_TO, start);
+    }
+    
+    /**
+     *  Writes an uncompressed snapshot of the list to a channel; see
+     *  {@link #writeTo(FileChannel, RecordCodec, boolean)}
+     *
+     *  @param channel the channel written to
+     *  @param codec the codec turning each element into a record
+     *
+     *  @throws IOException if the channel cannot be written
+     */
+    public void writeTo(FileChannel channel, RecordCodec<? super E> codec) throws IOException
+    {
+        long start = this.startTiming();
+        
+        BinaryListFormat.write(this, mySize, channel, codec, false);
+        this.stopTiming(ListMetrics.Operation.WRITE_TO, start);
+    }
+    
+    /**
+     *  Reads a snapshot written by {@link #writeTo(FileChannel, RecordCodec,
+     *  boolean)} from a channel, starting at its current position.  The
+     *  header tells whether the records are compressed, and the chain is
+     *  built in one pass by appending each element at the tail
+     *
+     *  @param channel the channel read from
+     *  @param codec the codec turning each record back into an element;
+     *         it must have the record size the snapshot was written with
+     *
+     *  @return a new, singly linked list holding the elements
+     *
+     *  @throws IOException if the channel cannot be read, the snapshot
+     *          ends early or it was not written with a matching codec
+     */
+    public static <E> LinkedList<E> readFrom(FileChannel channel, RecordCodec<E> codec) throws IOException
+    {
+        LinkedList<E> list = new LinkedList<E>();
+        
+        BinaryListFormat.read(channel, codec, datum -> list.addLast(datum));
+        return list;
+    }
+    
+    /**
+     * Method to find the index of a specific node given the datum of 
+     * that node.
+     * 
+     * @param o the data of the node we are looking for
+     * @return the index of which the node is located in the linked list
+     */
+    public int indexOf(E o)
+    {
+        long start = this.startTiming();
+        
+        try
+        {
+            if(o==null)
+            {
+                return -1;
+            }
+            Node<E> myNode = this.findNode(o);
+            
+            if(myNode == null)
+            {
+                return -1;
+            }
+            else
+            {
+                Node<E> myCurrentNode = myHead;
+                int index             = 0;
+                
+                while(myCurrentNode != myNode)
+                { 
+                    myCurrentNode = myCurrentNode.getNext();
+                    index++;
+                }
+                return index;
+            }
+        }
+        finally
+        {
+            this.stopTiming(ListMetrics.Operation.INDEX_OF, start);
+        }
+    }
+
+    /**
+     * Method to easily remove the first node in the linked list. If the linked list
+     * has a null head then return null. Otherwise remove the first node.
+     * 
+     * @return the value of the removed node
+     */
+    public E removeFirst()
+    {
+        long start = this.startTiming();
+        E myFirstNode = (myHead == null) ? null : myHead.getData();
+        
+        if(myHead != null)
+        {
+            this.unlink(null, myHead);
+        }
+        this.stopTiming(ListMetrics.Operation.REMOVE_FIRST, start);
+        return myFirstNode;
+    }
+    
+    /**
+     * Method to easily remove the last node in the linked list. If the linked list
+     * has a null head then return null. Otherwise remove the last node. In a doubly
+     * linked list this takes constant time; otherwise the node before the tail has
+     * to be found with a single walk of the list.
+     * 
+     * @return the value of the removed node
+     */
+    public E removeLast()
+    {
+        long start = this.startTiming();
+        E myLastDatum = (myTail == null) ? null : myTail.getData();
+        
+        if(myHead != null)
+        {
+            Node<E> myLastNode = myTail;
+            this.unlink(this.getPrevious(myLastNode), myLastNode);
+        }
+        this.stopTiming(ListMetrics.Operation.REMOVE_LAST, start);
+        return myLastDatum;
+    }
+
+    /**
+     * Method to return the size of the linked list.
+     * 
+     * @return list size
+     */
+    public int size()
+    {
+        return mySize;
+    }
+
+    /**
+     * Method that gets the datum of the first node in the linked list.
+     * @return datum of first node
+     */
+    public E getFirst()
+    {
+        long start = this.startTiming();
+        E datum;
+        
+        // If the linked list is empty return null
+        if(myHead == null)
+        {
+            datum = null;
+        }
+        // Return datum of the first node in the linked list
+        else
+        {
+            datum = getHead().getData();
+        }
+        this.stopTiming(ListMetrics.Operation.GET_FIRST, start);
+        return datum;
+    }
+    
+    /**
+     * Method that gets the datum of the last node in the linked list.
+     * @return datum of last node
+     */
+    public E getLast()
+    {
+        long start = this.startTiming();
+        E datum;
+        
+        // If the linked list is empty return null
+        if(myTail == null)
+        {
+            datum = null;
+        }        
+        
+        // The tail reference always points at the last node.
+        else
+        {
+            datum = myTail.getData();
+        }
+        this.stopTiming(ListMetrics.Operation.GET_LAST, start);
+        return datum;
+    }
+
+    /**
+     * Method that sets the datum at the beginning of the list. If the list is empty
+     * a new node is added, otherwise the datum of the first node is replaced.
+     * @param o datum to be placed into linked list at the beginning
+     */
+    public void setFirst(E o)
+    {
+        long start = this.startTiming();
+        
+        if(myHead == null)
+        {
+            this.addFirst(this.newNode(o));
+        }
+        else 
+        {
+            this.setData(myHead, o);
+        }
+        this.stopTiming(ListMetrics.Operation.SET_FIRST, start);
+    }
+    
+    /**
+     *  Replaces the datum of a node, moving the node to the bucket
+     *  of its new datum when the list is indexed
+     *
+     *  @param node the node whose datum is replaced
+     *  @param datum the new datum
+     */
+    private void setData(Node<E> node, E datum)
+    {
+        this.indexRemove(node);
+        this.filterRemove(node);
+        node.setData(datum);
+        this.indexAdd(node);
+        this.filterAdd(node);
+    }
+    
+    /**
+     *  Method that gets the datum of the node at a position.  The node
+     *  is found starting from the finger, the last node reached by
+     *  position, when that is nearer than the head, so reading the
+     *  list with get(0), get(1), ... takes constant time per call
+     *
+     *  @param index the position of the node, counting from 0
+     *
+     *  @return datum of the node at index
+     */
+    public E get(int index)
+    {
+        long start = this.startTiming();
+        E datum;
+        
+        this.checkIndex(index, mySize);
+        datum = this.nodeAt(index).getData();
+        this.stopTiming(ListMetrics.Operation.GET, start);
+        return datum;
+    }
+    
+    /**
+     *  Method that replaces the datum of the node at a position.  The
+     *  node is found in the same way as by {@link #get(int)}
+     *
+     *  <pre>
+     *  pre:  the list has more than index nodes
+     *  post: the node at index holds datum; the list is otherwise
+     *        unchanged
+     *  </pre>
+     *
+     *  @param index the position of the node, counting from 0
+     *  @param datum the new datum
+     *
+     *  @return the datum the node held before
+     */
+    public E set(int index, E datum)
+    {
+        long start = this.startTiming();
+        Node<E> node;
+        E oldDatum;
+        
+        this.checkIndex(index, mySize);
+        node = this.nodeAt(index);
+        oldDatum = node.getData();
+        this.setData(node, datum);
+        this.stopTiming(ListMetrics.Operation.SET, start);
+        return oldDatum;
+    }
+    
+    /**
+     *  A new node with datum is entered into the list so that it ends
+     *  up at position index.  The node before it is found in the same
+     *  way as by {@link #get(int)}, and the finger is left on the new
+     *  node so entering data at increasing positions stays cheap
+     *
+     *  <pre>
+     *  pre:  the list has index or more nodes
+     *  post: the list contains one more node, holding datum, at
+     *        position index; the nodes from index on have moved up
+     *        one position
+     *  </pre>
+     *
+     *  @param index the position the new node is to have
+     *  @param datum the object used to create the new node
+     */
+    public void add(int index, E datum)
+    {
+        long start = this.startTiming();
+        Node<E> node;
+        
+        this.checkIndex(index, mySize + 1);
+        node = this.newNode(datum);
+        if(index == 0)
+        {
+            this.addFirst(node);
+        }
+        else if(index == mySize)
+        {
+            this.addLast(node);
+        }
+        else
+        {
+            this.insertBefore(node, this.nodeAt(index - 1));
+        }
+        this.setFinger(node, index);
+        this.stopTiming(ListMetrics.Operation.ADD, start);
+    }
+    
+    /**
+     *  Finds the node at a position, walking from whichever known node
+     *  is nearest: the head, the finger, or in a doubly linked list the
+     *  tail.  A singly linked list can only walk forward from the finger.
+     *  The node found becomes the new finger
+     *
+     *  @param index the position of the node, which must be in range
+     *
+     *  @return the node at index
+     */
+    private Node<E> nodeAt(int index)
+    {
+        Node<E> node = myHead;
+        int position = 0;
+        
+        if(index == mySize - 1)
+        {
+            node = myTail;
+            position = index;
+        }
+        else
+        {
+            if(myFingerModCount == myModCount && myFinger != null
+                && Math.abs(index - myFingerIndex) < index
+                && (myFingerIndex <= index || myDoublyLinked))
+            {
+                node = myFinger;
+                position = myFingerIndex;
+            }
+            if(myDoublyLinked && mySize - 1 - index < Math.abs(index - position))
+            {
+                node = myTail;
+                position = mySize - 1;
+            }
+            
+            while(position < index)
+            {
+                node = node.getNext();
+                position++;
+            }
+            while(position > index)
+            {
+                node = node.getPrevious();
+                position--;
+            }
+        }
+        this.setFinger(node, index);
+        return node;
+    }
+    
+    /**
+     *  Remembers a node and its position.  The finger is only trusted
+     *  while the modification count is the one recorded here, so any
+     *  structural change other than through add(int, E) drops it
+     *
+     *  @param node the node reached
+     *  @param index the position of node
+     */
+    private void setFinger(Node<E> node, int index)
+    {
+        myFinger = node;
+        myFingerIndex = index;
+        myFingerModCount = myModCount;
+    }
+    
+    private void checkIndex(int index, int bound)
+    {
+        if(index < 0 || index >= bound)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mySize);
+        }
+    }
+    
+    /**
+     *  Enters a node that has just been linked into the list into the
+     *  bucket of its datum.  Nodes in a bucket are kept in list order:
+     *  a node at the head or tail goes to the front or back of the
+     *  bucket, while a node entered in the middle of a datum that is
+     *  already in the list is placed by walking back to the nearest
+     *  node holding the same datum, which takes O(n) at worst
+     *
+     *  @param node the node to be indexed
+     */
+    private void indexAdd(Node<E> node)
+    {
+        IndexedNode<E> indexedNode;
+        IndexBucket bucket;
+        
+        if(myIndex == null)
+        {
+            return;
+        }
+        
+        indexedNode = (IndexedNode<E>) node;
+        bucket = myIndex.get(node.getData());
+        if(bucket == null)
+        {
+            bucket = new IndexBucket();
+            bucket.myFirst = indexedNode;
+            bucket.myLast  = indexedNode;
+            myIndex.put(node.getData(), bucket);
+            return;
+        }
+        
+        if(node.getNext() == null)
+        {
+            this.linkEqualAfter(bucket, bucket.myLast, indexedNode);
+            return;
+        }
+        
+        Node<E> previousNode = node.getPrevious();
+        while(previousNode != null && !Objects.equals(previousNode.getData(), node.getData()))
+        {
+            previousNode = previousNode.getPrevious();
+        }
+        this.linkEqualAfter(bucket, (IndexedNode<E>) previousNode, indexedNode);
+    }
+    
+    /**
+     *  Enters a node into the bucket of its datum behind every node
+     *  already there.  This is only right when no node after it in the
+     *  list has been indexed, as when a chain is indexed in list order
+     *
+     *  @param node the node to be indexed
+     */
+    private void indexAppend(Node<E> node)
+    {
+        IndexBucket bucket = myIndex.get(node.getData());
+        
+        if(bucket == null)
+        {
+            bucket = new IndexBucket();
+            myIndex.put(node.getData(), bucket);
+        }
+        this.linkEqualAfter(bucket, bucket.myLast, (IndexedNode<E>) node);
+    }
+    
+    /**
+     *  Links a node into the chain of a bucket after another node
+     *
+     *  @param bucket the bucket of the node's datum
+     *  @param previousEqual the node to link after, or null to make
+     *         node the first of the bucket
+     *  @param node the node to be linked
+     */
+    private void linkEqualAfter(IndexBucket bucket, IndexedNode<E> previousEqual, IndexedNode<E> node)
+    {
+        IndexedNode<E> nextEqual = (previousEqual == null) ? bucket.myFirst : previousEqual.myNextEqual;
+        
+        node.myPreviousEqual = previousEqual;
+        node.myNextEqual     = nextEqual;
+        
+        if(previousEqual == null)
+        {
+            bucket.myFirst = node;
+        }
+        else
+        {
+            previousEqual.myNextEqual = node;
+        }
+        
+        if(nextEqual == null)
+        {
+            bucket.myLast = node;
+        }
+        else
+        {
+            nextEqual.myPreviousEqual = node;
+        }
+    }
+    
+    /**
+     *  Takes a node that is about to be unlinked out of the bucket of
+     *  its datum, dropping the bucket once it is empty
+     *
+     *  @param node the node to be taken out of the index
+     */
+    private void indexRemove(Node<E> node)
+    {
+        IndexedNode<E> indexedNode;
+        IndexBucket bucket;
+        
+        if(myIndex == null)
+        {
+            return;
+        }
+        
+        indexedNode = (IndexedNode<E>) node;
+        bucket = myIndex.get(node.getData());
+        
+        if(indexedNode.myPreviousEqual == null)
+        {
+            bucket.myFirst = indexedNode.myNextEqual;
+        }
+        else
+        {
+            indexedNode.myPreviousEqual.myNextEqual = indexedNode.myNextEqual;
+        }
+        
+        if(indexedNode.myNextEqual == null)
+        {
+            bucket.myLast = indexedNode.myPreviousEqual;
+        }
+        else
+        {
+            indexedNode.myNextEqual.myPreviousEqual = indexedNode.myPreviousEqual;
+        }
+        
+        indexedNode.myNextEqual     = null;
+        indexedNode.myPreviousEqual = null;
+        if(bucket.myFirst == null)
+        {
+            myIndex.remove(node.getData());
+        }
+    }
+    
+    /**
+     *  Returns an iterator over the data in the list from head to tail;
+     *  the iterator is the same cursor returned by {@link #listIterator()}
+     *
+     *  @return an iterator positioned before the first node
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return this.listIterator();
+    }
+    
+    /**
+     *  Returns a cursor over the list positioned before the first node.
+     *  Its next, remove, add and set methods take constant time; previous
+     *  takes constant time in a doubly linked list and otherwise has to
+     *  find the node before the cursor with a walk of the list
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more nodes
+     *  post: list is unchanged
+     *  </pre>
+     *
+     *  @return a list iterator positioned before the first node
+     */
+    public ListIterator<E> listIterator()
+    {
+        return new LinkedListIterator();
+    }
+    
+    /**
+     *  Returns a late-binding, fail-fast spliterator over the data in
+     *  the list; it reports SIZED, SUBSIZED and ORDERED and splits by
+     *  copying batches of nodes into arrays
+     *
+     *  @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<E> spliterator()
+    {
+        return new LinkedListSpliterator();
+    }
+    
+    /**
+     *  Returns a sequential stream over the data in the list from head
+     *  to tail
+     *
+     *  @return a sequential stream
+     */
+    public Stream<E> stream()
+    {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+    
+    /**
+     *  Returns a possibly parallel stream over the data in the list;
+     *  the list is handed to workers in batches of increasing size
+     *
+     *  @return a parallel stream
+     */
+    public Stream<E> parallelStream()
+    {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+    
+    /**
+     * Method to set the head of the linked list
+     * @param node to be set as the head
+     */
+    private void setHead(Node<E> node)
+    {
+        myHead = node;
+    }
+    
+    /**
+     * Method to get the head of the linked list
+     * @return head of list
+     */
+    private Node<E> getHead()
+    {
+        return myHead;
+    }
+    
+    private class LinkedListIterator implements ListIterator<E>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private Node<E> myCursorPrevious;
+        private Node<E> myCursorNext;
+        private Node<E> myLastReturned;
+        private Node<E> myLastReturnedPrevious;
+        private int myNextIndex;
+        private int myExpectedModCount;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for a cursor positioned before the head
+         */
+        public LinkedListIterator()
+        {
+            myCursorPrevious       = null;
+            myCursorNext           = myHead;
+            myLastReturned         = null;
+            myLastReturnedPrevious = null;
+            myNextIndex            = 0;
+            myExpectedModCount     = myModCount;
+        }
+        
+        /**
+         *  Constructor for a cursor positioned directly after a node
+         *
+         *  @param previous the node before the cursor, or null for
+         *         a cursor before the head
+         *  @param nextIndex the position of the node after the cursor
+         */
+        public LinkedListIterator(Node<E> previous, int nextIndex)
+        {
+            myCursorPrevious       = previous;
+            myCursorNext           = (previous == null) ? myHead : previous.getNext();
+            myLastReturned         = null;
+            myLastReturnedPrevious = null;
+            myNextIndex            = nextIndex;
+            myExpectedModCount     = myModCount;
+        }
+        
+        @Override
+        public boolean hasNext()
+        {
+            return myCursorNext != null;
+        }
+        
+        @Override
+        public E next()
+        {
+            this.checkForModification();
+            if(myCursorNext == null)
+            {
+                throw new NoSuchElementException();
+            }
+            
+            myLastReturnedPrevious = myCursorPrevious;
+            myLastReturned         = myCursorNext;
+            myCursorPrevious       = myCursorNext;
+            myCursorNext           = myCursorNext.getNext();
+            myNextIndex++;
+            return myLastReturned.getData();
+        }
+        
+        @Override
+        public boolean hasPrevious()
+        {
+            return myCursorPrevious != null;
+        }
+        
+        @Override
+        public E previous()
+        {
+            this.checkForModification();
+            if(myCursorPrevious == null)
+            {
+                throw new NoSuchElementException();
+            }
+            
+            myCursorNext           = myCursorPrevious;
+            myCursorPrevious       = getPrevious(myCursorNext);
+            myLastReturned         = myCursorNext;
+            myLastReturnedPrevious = myCursorPrevious;
+            myNextIndex--;
+            return myLastReturned.getData();
+        }
+        
+        @Override
+        public int nextIndex()
+        {
+            return myNextIndex;
+        }
+        
+        @Override
+        public int previousIndex()
+        {
+            return myNextIndex - 1;
+        }
+        
+        /**
+         *  Unlinks the node last returned by next or previous; the
+         *  node before it is already known so no walk is needed
+         */
+        @Override
+        public void remove()
+        {
+            if(myLastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            this.checkForModification();
+            
+            if(myLastReturned == myCursorPrevious)
+            {
+                // The node was returned by next, so the cursor moves back one place.
+                myCursorPrevious = myLastReturnedPrevious;
+                myNextIndex--;
+            }
+            else
+            {
+                // The node was returned by previous, so the cursor stays in place.
+                myCursorNext = myLastReturned.getNext();
+            }
+            unlink(myLastReturnedPrevious, myLastReturned);
+            
+            myLastReturned     = null;
+            myExpectedModCount = myModCount;
+        }
+        
+        @Override
+        public void set(E datum)
+        {
+            if(myLastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            this.checkForModification();
+            setData(myLastReturned, datum);
+        }
+        
+        /**
+         *  Enters a new node at the cursor, directly before the node
+         *  that next would return
+         */
+        @Override
+        public void add(E datum)
+        {
+            Node<E> node = newNode(datum);
+            
+            this.checkForModification();
+            if(myCursorPrevious == null)
+            {
+                addFirst(node);
+            }
+            else
+            {
+                insertBefore(node, myCursorPrevious);
+            }
+            
+            myCursorPrevious   = node;
+            myLastReturned     = null;
+            myNextIndex++;
+            myExpectedModCount = myModCount;
+        }
+        
+        private void checkForModification()
+        {
+            if(myModCount != myExpectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    private class SubList extends AbstractSequentialList<E>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final Node<E> myBeforeFirst;
+        private final int myOffset;
+        private int myLength;
+        private int myExpectedModCount;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for a view of a run of nodes.  The node before
+         *  the run stays the same whatever is changed through the view,
+         *  so it is found once here
+         *
+         *  @param beforeFirst the node before the first node of the
+         *         view, or null if the view starts at the head
+         *  @param offset the position of the first node of the view
+         *  @param length the number of nodes in the view
+         */
+        public SubList(Node<E> beforeFirst, int offset, int length)
+        {
+            myBeforeFirst      = beforeFirst;
+            myOffset           = offset;
+            myLength           = length;
+            myExpectedModCount = myModCount;
+        }
+        
+        @Override
+        public int size()
         {
-            return -1;
+            this.checkForModification();
+            return myLength;
         }
-        if(this.findNode(o) == null)
+        
+        /**
+         *  Returns a cursor over the view; reaching position index
+         *  walks from the start of the view
+         */
+        @Override
+        public ListIterator<E> listIterator(int index)
+        {
+            LinkedListIterator iterator;
+            
+            this.checkForModification();
+            if(index < 0 || index > myLength)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + myLength);
+            }
+            
+            iterator = new LinkedListIterator(myBeforeFirst, myOffset);
+            for(int i = 0; i < index; i++)
+            {
+                iterator.next();
+            }
+            return new SubListIterator(iterator);
+        }
+        
+        private void checkForModification()
         {
-            return -1;
+            if(myModCount != myExpectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
         }
-        else
+        
+        private class SubListIterator implements ListIterator<E>
         {
-            Node<E> myNode        = findNode(o);
-            Node<E> myCurrentNode = myHead;
-            int index             = 0;
+            ///////////////////////////////////
+            //           Properties          //
+            ///////////////////////////////////
+            private final LinkedListIterator myIterator;
+            
+            ///////////////////////////////////
+            //             Methods           //
+            ///////////////////////////////////
+            
+            /**
+             *  Constructor for a cursor kept within the bounds of the view
+             *
+             *  @param iterator a cursor over the whole list positioned
+             *         within the view
+             */
+            public SubListIterator(LinkedListIterator iterator)
+            {
+                myIterator = iterator;
+            }
+            
+            @Override
+            public boolean hasNext()
+            {
+                return this.nextIndex() < myLength;
+            }
+            
+            @Override
+            public E next()
+            {
+                if(!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                return myIterator.next();
+            }
+            
+            @Override
+            public boolean hasPrevious()
+            {
+                return this.nextIndex() > 0;
+            }
+            
+            @Override
+            public E previous()
+            {
+                if(!this.hasPrevious())
+                {
+                    throw new NoSuchElementException();
+                }
+                return myIterator.previous();
+            }
+            
+            @Override
+            public int nextIndex()
+            {
+                return myIterator.nextIndex() - myOffset;
+            }
+            
+            @Override
+            public int previousIndex()
+            {
+                return this.nextIndex() - 1;
+            }
             
-            while(myCurrentNode != myNode)
-            { 
-                myCurrentNode = myCurrentNode.getNext();
-                index++;
+            @Override
+            public void remove()
+            {
+                myIterator.remove();
+                myLength--;
+                modCount++;
+                myExpectedModCount = myModCount;
+            }
+            
+            @Override
+            public void set(E datum)
+            {
+                myIterator.set(datum);
+            }
+            
+            @Override
+            public void add(E datum)
+            {
+                myIterator.add(datum);
+                myLength++;
+                modCount++;
+                myExpectedModCount = myModCount;
             }
-            return index;
         }
     }
-
-    /**
-     * Method to easily remove the first node in the linked list. If the linked list
-     * has a null head then return null. Otherwise remove the first node.
-     * 
-     * @return the value of the removed node
-     */
-    public E removeFirst()
+    
+    private class SortTask extends RecursiveTask<Node<E>>
     {
-        if(myHead == null)
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        
+        /** Runs no longer than this are sorted without splitting further. */
+        private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final Node<E> myFirst;
+        private final int myLength;
+        private final Comparator<? super E> myComparator;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for the task of sorting a run of nodes
+         *
+         *  @param first the first node of the run
+         *  @param length the number of nodes in the run, which must
+         *         be all the nodes up to the end of the chain
+         *  @param comparator the order to sort by
+         */
+        public SortTask(Node<E> first, int length, Comparator<? super E> comparator)
         {
-            return null;
+            myFirst      = first;
+            myLength     = length;
+            myComparator = comparator;
         }
-        else
+        
+        /**
+         *  Cuts the run in half, sorts the first half in a forked task
+         *  while sorting the second half here, then merges the halves
+         */
+        @Override
+        protected Node<E> compute()
         {
-            E myFirstNode = this.getFirst();
-            remove(myFirstNode);
-            return myFirstNode;
+            Node<E> lastLeft = myFirst;
+            Node<E> firstRight;
+            int leftLength = myLength / 2;
+            SortTask leftTask;
+            
+            if(myLength <= SEQUENTIAL_THRESHOLD)
+            {
+                return sortChain(myFirst, myComparator);
+            }
+            
+            for(int i = 1; i < leftLength; i++)
+            {
+                lastLeft = lastLeft.getNext();
+            }
+            firstRight = lastLeft.getNext();
+            lastLeft.setNext(null);
+            
+            leftTask = new SortTask(myFirst, leftLength, myComparator);
+            leftTask.fork();
+            Node<E> right = new SortTask(firstRight, myLength - leftLength, myComparator).compute();
+            return mergeChains(leftTask.join(), right, myComparator);
         }
     }
     
-    /**
-     * Method to easily remove the last node in the linked list. If the linked list
-     * has a null head then return null. Otherwise remove the last node.
-     * 
-     * @return the value of the removed node
-     */
-    public E removeLast()
+    private class LinkedListSpliterator implements Spliterator<E>
     {
-        if(myHead == null)
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH  = 1 << 25;
+        
+        private Node<E> myCurrent;
+        private int myEstimate;
+        private int myBatch;
+        private int myExpectedModCount;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for a spliterator that binds to the list the
+         *  first time it is used
+         */
+        public LinkedListSpliterator()
         {
-            return null;
+            myCurrent  = null;
+            myEstimate = -1;
+            myBatch    = 0;
         }
-        E myLastNode = this.getLast();
-        remove(myLastNode);
-        return myLastNode;
-    }
-
-    /**
-     * Method to return the size of the linked list.
-     * 
-     * @return list size
-     */
-    public int size()
-    {
-        return mySize;
-    }
-
-    /**
-     * Method that gets the datum of the first node in the linked list.
-     * @return datum of first node
-     */
-    public E getFirst()
-    {
-        // If the linked list is empty return null
-        if(myHead == null)
+        
+        /**
+         *  Binds to the head and size of the list on first use
+         *
+         *  @return the number of nodes not yet traversed or split off
+         */
+        private int getEstimate()
         {
-            return null;
+            if(myEstimate < 0)
+            {
+                myExpectedModCount = myModCount;
+                myCurrent          = myHead;
+                myEstimate         = mySize;
+            }
+            return myEstimate;
         }
-        // Return datum of the first node in the linked list
-        else
+        
+        @Override
+        public long estimateSize()
         {
-            return getHead().getData();
+            return this.getEstimate();
         }
-    }
-    
-    /**
-     * Method that gets the datum of the last node in the linked list.
-     * @return datum of last node
-     */
-    public E getLast()
-    {
-        Node<E> myLastNode = myHead;
         
-        // If the linked list is empty return null
-        if(myHead == null)
+        /**
+         *  Copies the next batch of nodes into an array and returns a
+         *  spliterator over it; each batch is BATCH_UNIT larger than
+         *  the last, up to MAX_BATCH
+         */
+        @Override
+        public Spliterator<E> trySplit()
         {
+            int remaining = this.getEstimate();
+            Node<E> node  = myCurrent;
+            
+            if(remaining > 1 && node != null)
+            {
+                int batchSize = Math.min(Math.min(myBatch + BATCH_UNIT, remaining), MAX_BATCH);
+                Object[] batch = new Object[batchSize];
+                int count = 0;
+                
+                do
+                {
+                    batch[count++] = node.getData();
+                    node = node.getNext();
+                }
+                while(node != null && count < batchSize);
+                
+                myCurrent  = node;
+                myBatch    = count;
+                myEstimate = remaining - count;
+                return Spliterators.spliterator(batch, 0, count, Spliterator.ORDERED);
+            }
             return null;
-        }        
+        }
         
-        // Loop through the linked list until reaching the end. Return the datum of the last node.
-        for(Node<E> myStart = myHead; myStart != null; myStart = myStart.getNext())
+        @Override
+        public void forEachRemaining(Consumer<? super E> action)
         {
-           if(myStart.getNext() == null)
-           {
-               myLastNode = myStart;
-           }
+            if(this.getEstimate() > 0)
+            {
+                Node<E> node = myCurrent;
+                
+                myCurrent  = null;
+                myEstimate = 0;
+                while(node != null)
+                {
+                    action.accept(node.getData());
+                    node = node.getNext();
+                }
+            }
+            this.checkForModification();
         }
         
-        return myLastNode.getData();
-    }
-
-    /**
-     * Method that inserts a node at the beginning of the list.
-     * @param o datum to be inserted into linked list at the beginning
-     */
-    public void setFirst(E o)
-    {
-        if(myHead == null)
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action)
+        {
+            if(this.getEstimate() > 0 && myCurrent != null)
+            {
+                E datum = myCurrent.getData();
+                
+                myEstimate--;
+                myCurrent = myCurrent.getNext();
+                action.accept(datum);
+                this.checkForModification();
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public int characteristics()
         {
-            this.addFirst(o);
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
-        else 
+        
+        private void checkForModification()
         {
-            Node<E> mySetFirst = new Node<E>(o);
-            this.setHead(mySetFirst);
+            if(myModCount != myExpectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
         }
     }
     
-    /**
-     * Method to set the head of the linked list
-     * @param node to be set as the head
-     */
-    private void setHead(Node<E> node)
-    {
-        myHead = node;
-    }
-    
-    /**
-     * Method to get the head of the linked list
-     * @return head of list
-     */
-    private Node<E> getHead()
+    private class IndexBucket
     {
-        return myHead;
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private IndexedNode<E> myFirst;
+        private IndexedNode<E> myLast;
     }
     
     private class Node<T>
@@ -699,7 +3156,6 @@ public class LinkedList<E>
         }
         
         // Accessor methods
-        @SuppressWarnings("unused")
         public void setData(T datum)
         {
             myData = datum;
@@ -719,5 +3175,107 @@ public class LinkedList<E>
         {
             return myNext;
         }
+        
+        /**
+         *  A singly linked node does not know its predecessor,
+         *  so the pointer is simply discarded
+         *
+         *  @param previous the node that would precede this node
+         */
+        public void setPrevious(Node<T> previous)
+        {
+        }
+        
+        public Node<T> getPrevious()
+        {
+            return null;
+        }
+    }
+    
+    private class DoublyLinkedNode<T> extends Node<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private Node<T> myPrevious;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for a node with some object for its
+         *  data and null for pointers to the next and previous nodes
+         *
+         *  @param datum an object for the node's data
+         */
+        public DoublyLinkedNode(T datum)
+        {
+            super(datum);
+            myPrevious = null;
+        }
+        
+        // Accessor methods
+        @Override
+        public void setPrevious(Node<T> previous)
+        {
+            myPrevious = previous;
+        }
+        
+        @Override
+        public Node<T> getPrevious()
+        {
+            return myPrevious;
+        }
+    }
+    
+    private class CountedNode<T> extends Node<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private int myCount;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for a node with some object for its data,
+         *  null for a pointer to a next node and no lookups counted
+         *
+         *  @param datum an object for the node's data
+         */
+        public CountedNode(T datum)
+        {
+            super(datum);
+            myCount = 0;
+        }
+    }
+    
+    private class IndexedNode<T> extends DoublyLinkedNode<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private IndexedNode<T> myNextEqual;
+        private IndexedNode<T> myPreviousEqual;
+        
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+        
+        /**
+         *  Constructor for a node with some object for its data
+         *  and null for pointers to all neighbouring nodes
+         *
+         *  @param datum an object for the node's data
+         */
+        public IndexedNode(T datum)
+        {
+            super(datum);
+            myNextEqual     = null;
+            myPreviousEqual = null;
+        }
     }
 }
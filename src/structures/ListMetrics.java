@@ -0,0 +1,291 @@
+package structures;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ *  Counts collected by a {@link LinkedList} once
+ *  {@link LinkedList#enableMetrics()} has been called: the number of
+ *  calls to each public operation with a histogram of their latencies,
+ *  and a histogram of the number of nodes visited each time the list
+ *  is walked to find a node or the node before it.
+ *
+ *  Every public method that reads or changes the data of the list has
+ *  an Operation, the writeTo methods for text and for a channel sharing
+ *  WRITE_TO, and a call one operation makes on behalf of another is not
+ *  counted twice.  Left out are size and the methods that only turn a
+ *  feature of the list on or off or ask about it, which do no work
+ *  worth timing, and iterator, listIterator, spliterator, stream and
+ *  parallelStream, which only create a cursor and leave the walk to
+ *  calls on it that are not timed.  The same goes for calls on a view
+ *  returned by subList; creating the view walks to its start and is
+ *  timed as SUB_LIST.
+ *
+ *  Histograms have one bucket per power of two, so recording is a few
+ *  atomic increments and takes no locks or allocation, and percentiles
+ *  are reported as the upper bound of the bucket they fall in.  The
+ *  counts may be read from any thread while the list is in use, either
+ *  directly or, after {@link #register(String)}, over JMX.
+ */
+public class ListMetrics implements ListMetricsMBean
+{
+    /**
+     *  The operations of a list whose calls are counted and timed
+     */
+    public enum Operation
+    {
+        ADD_FIRST, ADD_LAST, ADD, ADD_ALL, ADD_ALL_FIRST, INSERT_BEFORE,
+        REMOVE, REMOVE_FIRST, REMOVE_LAST, REMOVE_IF, REMOVE_ALL,
+        CONTAINS, INDEX_OF, GET, GET_FIRST, GET_LAST, SET, SET_FIRST,
+        CONCAT, SPLICE, SPLIT_AT, SUB_LIST, SORT, PARALLEL_SORT,
+        TO_STRING, WRITE_TO
+    }
+
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Number of buckets in every histogram, enough for any long. */
+    public static final int BUCKETS = 65;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final AtomicLongArray myLatencies;
+    private final AtomicLongArray myTraversals;
+    private final AtomicLong myNodesVisited;
+    private final AtomicLong myMaxTraversal;
+    private ObjectName myName;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Constructor that creates a set of metrics with every count zero
+     */
+    public ListMetrics()
+    {
+        myLatencies = new AtomicLongArray(OPERATIONS.length * BUCKETS);
+        myTraversals = new AtomicLongArray(BUCKETS);
+        myNodesVisited = new AtomicLong();
+        myMaxTraversal = new AtomicLong();
+    }
+
+    /**
+     *  Records one call to an operation
+     *
+     *  @param operation the operation called
+     *  @param nanos how long the call took
+     */
+    public void recordCall(Operation operation, long nanos)
+    {
+        myLatencies.incrementAndGet(operation.ordinal() * BUCKETS + bucketOf(nanos));
+    }
+
+    /**
+     *  Records one walk of the list
+     *
+     *  @param nodes the number of nodes visited
+     */
+    public void recordTraversal(long nodes)
+    {
+        myTraversals.incrementAndGet(bucketOf(nodes));
+        myNodesVisited.addAndGet(nodes);
+        if(nodes > myMaxTraversal.get())
+        {
+            myMaxTraversal.accumulateAndGet(nodes, Math::max);
+        }
+    }
+
+    /**
+     *  @param operation an operation
+     *
+     *  @return the number of calls made to it
+     */
+    public long getCallCount(Operation operation)
+    {
+        long count = 0;
+
+        for(int i = 0; i < BUCKETS; i++)
+        {
+            count += myLatencies.get(operation.ordinal() * BUCKETS + i);
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts()
+    {
+        Map<String, Long> counts = new LinkedHashMap<String, Long>();
+
+        for(Operation operation : OPERATIONS)
+        {
+            counts.put(operation.name(), this.getCallCount(operation));
+        }
+        return counts;
+    }
+
+    /**
+     *  @param operation an operation
+     *  @param percentile the percentile wanted, from 0 to 100
+     *
+     *  @return an upper bound, within a factor of two, on the latency in
+     *          nanoseconds of that percentile of calls, or 0 if there
+     *          have been none
+     */
+    public long getLatencyPercentileNanos(Operation operation, double percentile)
+    {
+        long[] histogram = new long[BUCKETS];
+
+        for(int i = 0; i < BUCKETS; i++)
+        {
+            histogram[i] = myLatencies.get(operation.ordinal() * BUCKETS + i);
+        }
+        return percentileOf(histogram, percentile);
+    }
+
+    @Override
+    public long getLatencyPercentileNanos(String operation, double percentile)
+    {
+        return this.getLatencyPercentileNanos(Operation.valueOf(operation), percentile);
+    }
+
+    @Override
+    public long getTraversals()
+    {
+        long count = 0;
+
+        for(int i = 0; i < BUCKETS; i++)
+        {
+            count += myTraversals.get(i);
+        }
+        return count;
+    }
+
+    @Override
+    public double getMeanTraversalLength()
+    {
+        long traversals = this.getTraversals();
+
+        return (traversals == 0) ? 0 : (double) myNodesVisited.get() / traversals;
+    }
+
+    @Override
+    public long getMaxTraversalLength()
+    {
+        return myMaxTraversal.get();
+    }
+
+    @Override
+    public long[] getTraversalHistogram()
+    {
+        long[] histogram = new long[BUCKETS];
+
+        for(int i = 0; i < BUCKETS; i++)
+        {
+            histogram[i] = myTraversals.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     *  @param percentile the percentile wanted, from 0 to 100
+     *
+     *  @return an upper bound, within a factor of two, on the number of
+     *          nodes visited by that percentile of walks
+     */
+    public long getTraversalPercentile(double percentile)
+    {
+        return percentileOf(this.getTraversalHistogram(), percentile);
+    }
+
+    @Override
+    public void reset()
+    {
+        for(int i = 0; i < myLatencies.length(); i++)
+        {
+            myLatencies.set(i, 0);
+        }
+        for(int i = 0; i < BUCKETS; i++)
+        {
+            myTraversals.set(i, 0);
+        }
+        myNodesVisited.set(0);
+        myMaxTraversal.set(0);
+    }
+
+    /**
+     *  Registers these metrics with the platform MBean server under
+     *  structures:type=LinkedList,name=name
+     *
+     *  @param name the name the list is known by
+     *
+     *  @throws JMException if the name is taken or cannot be used
+     */
+    public synchronized void register(String name) throws JMException
+    {
+        ObjectName objectName = new ObjectName("structures:type=LinkedList,name=" + ObjectName.quote(name));
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        myName = objectName;
+    }
+
+    /**
+     *  Removes these metrics from the platform MBean server if they
+     *  were registered
+     *
+     *  @throws JMException if the server refuses
+     */
+    public synchronized void unregister() throws JMException
+    {
+        if(myName != null)
+        {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(myName);
+            myName = null;
+        }
+    }
+
+    /**
+     *  @param value a count of nanoseconds or nodes
+     *
+     *  @return the bucket holding value: 0 for 0, otherwise one more
+     *          than the position of its highest set bit
+     */
+    private static int bucketOf(long value)
+    {
+        return (value <= 0) ? 0 : 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long percentileOf(long[] histogram, double percentile)
+    {
+        long total = 0;
+        long seen = 0;
+        long rank;
+
+        for(long count : histogram)
+        {
+            total += count;
+        }
+        if(total == 0)
+        {
+            return 0;
+        }
+
+        rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        for(int i = 0; i < histogram.length; i++)
+        {
+            seen += histogram[i];
+            if(seen >= rank)
+            {
+                return (i == 0) ? 0 : (i == 64) ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,52 @@
+package structures;
+
+import java.util.Map;
+
+/**
+ *  The management interface through which {@link ListMetrics} is seen
+ *  over JMX.  Operation names are those of {@link ListMetrics.Operation}.
+ */
+public interface ListMetricsMBean
+{
+    /**
+     *  @return the number of calls made to each operation, by name
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     *  @return the number of walks of the list recorded
+     */
+    long getTraversals();
+
+    /**
+     *  @return the mean number of nodes visited per walk, or 0 if none
+     *          has been recorded
+     */
+    double getMeanTraversalLength();
+
+    /**
+     *  @return the largest number of nodes visited by one walk
+     */
+    long getMaxTraversalLength();
+
+    /**
+     *  @return the number of walks in each bucket of lengths; bucket 0
+     *          counts walks visiting no node, bucket b counts walks
+     *          visiting from 2^(b-1) to 2^b - 1 nodes
+     */
+    long[] getTraversalHistogram();
+
+    /**
+     *  @param operation the name of an operation
+     *  @param percentile the percentile wanted, from 0 to 100
+     *
+     *  @return an upper bound, within a factor of two, on the latency
+     *          in nanoseconds of that percentile of calls
+     */
+    long getLatencyPercentileNanos(String operation, double percentile);
+
+    /**
+     *  Sets every count back to zero
+     */
+    void reset();
+}
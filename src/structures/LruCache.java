@@ -0,0 +1,467 @@
+package structures;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+/**
+ *  A cache that keeps its entries in a doubly linked list ordered from
+ *  the most to the least recently used, together with a hash map from
+ *  every key to its node.  A hit finds its node through the map and
+ *  unlinks it from where it is to relink it at the head, so get, put,
+ *  touch and remove all take constant time, and when the cache is full
+ *  the entries evicted are simply those at the tail.
+ *
+ *  The cache is bounded either by a number of entries or by a total
+ *  weight, each entry weighing what a weigher given at construction
+ *  says.  Listeners are told about every entry evicted to stay within
+ *  the bound, and the cache counts its hits, misses and evictions.
+ *  Null keys and values are not supported, and the cache is not safe
+ *  for use by several threads at once without outside locking.
+ */
+public class LruCache<K, V>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    private final Map<K, Node<K, V>> myIndex;
+    private final ToLongBiFunction<? super K, ? super V> myWeigher;
+    private final long myMaxWeight;
+    private final List<BiConsumer<? super K, ? super V>> myListeners;
+    private Node<K, V> myHead;
+    private Node<K, V> myTail;
+    private long myWeight;
+    private long myHits;
+    private long myMisses;
+    private long myEvictions;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Constructor that creates an empty cache holding at most
+     *  capacity entries
+     *
+     *  <pre>
+     *  pre:  capacity is positive
+     *  post: the cache is empty
+     *  </pre>
+     *
+     *  @param capacity the most entries the cache holds
+     */
+    public LruCache(int capacity)
+    {
+        this(capacity, (key, value) -> 1L);
+    }
+
+    /**
+     *  Constructor that creates an empty cache whose entries together
+     *  weigh at most maxWeight
+     *
+     *  <pre>
+     *  pre:  maxWeight is positive
+     *  post: the cache is empty
+     *  </pre>
+     *
+     *  @param maxWeight the most the entries of the cache weigh together
+     *  @param weigher gives the weight of an entry, which must not be
+     *         negative and must not change while the entry is cached
+     */
+    public LruCache(long maxWeight, ToLongBiFunction<? super K, ? super V> weigher)
+    {
+        if(maxWeight <= 0)
+        {
+            throw new IllegalArgumentException("The bound of a cache must be positive");
+        }
+        myIndex = new HashMap<K, Node<K, V>>();
+        myWeigher = Objects.requireNonNull(weigher);
+        myMaxWeight = maxWeight;
+        myListeners = new ArrayList<BiConsumer<? super K, ? super V>>();
+        myHead = null;
+        myTail = null;
+        myWeight = 0;
+    }
+
+    /**
+     *  Adds a listener to be told the key and value of every entry
+     *  evicted to keep the cache within its bound.  Entries removed
+     *  or replaced by a caller are not reported
+     *
+     *  @param listener the listener to be added
+     */
+    public void addEvictionListener(BiConsumer<? super K, ? super V> listener)
+    {
+        myListeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     *  Takes a listener added by addEvictionListener back off
+     *
+     *  @param listener the listener to be removed
+     *
+     *  @return true if the listener had been added
+     */
+    public boolean removeEvictionListener(BiConsumer<? super K, ? super V> listener)
+    {
+        return myListeners.remove(listener);
+    }
+
+    /**
+     *  Method that gets the value cached for a key, making the entry
+     *  the most recently used.  The lookup counts as a hit or a miss
+     *
+     *  @param key the key looked up
+     *
+     *  @return the value cached for key, or null if there is none
+     */
+    public V get(K key)
+    {
+        Node<K, V> node = myIndex.get(key);
+
+        if(node == null)
+        {
+            myMisses++;
+            return null;
+        }
+        myHits++;
+        this.moveToHead(node);
+        return node.myValue;
+    }
+
+    /**
+     *  Method that gets the value cached for a key without making the
+     *  entry more recently used or counting a hit or miss
+     *
+     *  @param key the key looked up
+     *
+     *  @return the value cached for key, or null if there is none
+     */
+    public V peek(K key)
+    {
+        Node<K, V> node = myIndex.get(key);
+
+        return (node == null) ? null : node.myValue;
+    }
+
+    /**
+     *  Makes the entry of a key the most recently used, without
+     *  reading it or counting a hit or miss
+     *
+     *  @param key the key of the entry
+     *
+     *  @return true if the key is cached
+     */
+    public boolean touch(K key)
+    {
+        Node<K, V> node = myIndex.get(key);
+
+        if(node == null)
+        {
+            return false;
+        }
+        this.moveToHead(node);
+        return true;
+    }
+
+    /**
+     *  Caches a value for a key as the most recently used entry, then
+     *  evicts entries from the least recently used end until the cache
+     *  is within its bound again.  An entry weighing more than the
+     *  whole bound is therefore evicted straight away
+     *
+     *  <pre>
+     *  pre:  key and value are not null
+     *  post: key maps to value, unless it was evicted; the cache is
+     *        within its bound
+     *  </pre>
+     *
+     *  @param key the key of the entry
+     *  @param value the value to be cached
+     *
+     *  @return the value cached for key before, or null if there was none
+     */
+    public V put(K key, V value)
+    {
+        Node<K, V> node;
+        V oldValue = null;
+        long weight;
+
+        if(key == null || value == null)
+        {
+            throw new NullPointerException("Null keys and values are not supported");
+        }
+        weight = myWeigher.applyAsLong(key, value);
+        if(weight < 0)
+        {
+            throw new IllegalArgumentException("Negative weight " + weight + " for key " + key);
+        }
+
+        node = myIndex.get(key);
+        if(node == null)
+        {
+            node = new Node<K, V>(key, value, weight);
+            myIndex.put(key, node);
+            this.linkAtHead(node);
+        }
+        else
+        {
+            oldValue = node.myValue;
+            myWeight -= node.myWeight;
+            node.myValue = value;
+            node.myWeight = weight;
+            this.moveToHead(node);
+        }
+        myWeight += weight;
+
+        this.evict();
+        return oldValue;
+    }
+
+    /**
+     *  Removes the entry of a key if it is cached.  Listeners are not
+     *  told, since the entry was not evicted
+     *
+     *  @param key the key of the entry
+     *
+     *  @return the value that was cached for key, or null if there was none
+     */
+    public V remove(K key)
+    {
+        Node<K, V> node = myIndex.remove(key);
+
+        if(node == null)
+        {
+            return null;
+        }
+        this.unlink(node);
+        myWeight -= node.myWeight;
+        return node.myValue;
+    }
+
+    /**
+     *  Determine if a key is cached, without making its entry more
+     *  recently used
+     *
+     *  @param key the key looked for
+     *
+     *  @return true if the key is cached
+     */
+    public boolean containsKey(K key)
+    {
+        return myIndex.containsKey(key);
+    }
+
+    /**
+     *  Removes every entry.  Listeners are not told and the counters
+     *  are kept
+     */
+    public void clear()
+    {
+        myIndex.clear();
+        myHead = null;
+        myTail = null;
+        myWeight = 0;
+    }
+
+    /**
+     *  Method to return the number of entries cached.
+     *
+     *  @return cache size
+     */
+    public int size()
+    {
+        return myIndex.size();
+    }
+
+    /**
+     *  @return the total weight of the entries cached, the same as the
+     *          size for a cache bounded by a number of entries
+     */
+    public long weight()
+    {
+        return myWeight;
+    }
+
+    /**
+     *  @return the most the entries of the cache weigh together, the
+     *          capacity for a cache bounded by a number of entries
+     */
+    public long maxWeight()
+    {
+        return myMaxWeight;
+    }
+
+    /**
+     *  @return the number of calls to get that found their key
+     */
+    public long getHitCount()
+    {
+        return myHits;
+    }
+
+    /**
+     *  @return the number of calls to get that did not find their key
+     */
+    public long getMissCount()
+    {
+        return myMisses;
+    }
+
+    /**
+     *  @return the number of entries evicted to keep within the bound
+     */
+    public long getEvictionCount()
+    {
+        return myEvictions;
+    }
+
+    /**
+     *  @return the fraction of calls to get that were hits, or 0 if
+     *          there have been none
+     */
+    public double getHitRate()
+    {
+        long lookups = myHits + myMisses;
+
+        return (lookups == 0) ? 0 : (double) myHits / lookups;
+    }
+
+    /**
+     *  Sets the hit, miss and eviction counters back to zero
+     */
+    public void resetCounters()
+    {
+        myHits = 0;
+        myMisses = 0;
+        myEvictions = 0;
+    }
+
+    /**
+     *  print the entries from the most to the least recently used, in
+     *  the format used by {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the cache has 0 or more entries
+     *  post: no change to the cache
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        for(Node<K, V> node = myHead; node != null; node = node.myNext)
+        {
+            string.append(node.myKey).append('=').append(node.myValue).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Evicts entries from the tail until the cache is within its bound,
+     *  telling the listeners about each one.  Each entry is out of the
+     *  cache before its listeners are called
+     */
+    private void evict()
+    {
+        while(myWeight > myMaxWeight && myTail != null)
+        {
+            Node<K, V> node = myTail;
+
+            myIndex.remove(node.myKey);
+            this.unlink(node);
+            myWeight -= node.myWeight;
+            myEvictions++;
+            for(BiConsumer<? super K, ? super V> listener : myListeners)
+            {
+                listener.accept(node.myKey, node.myValue);
+            }
+        }
+    }
+
+    private void moveToHead(Node<K, V> node)
+    {
+        if(node != myHead)
+        {
+            this.unlink(node);
+            this.linkAtHead(node);
+        }
+    }
+
+    private void linkAtHead(Node<K, V> node)
+    {
+        node.myPrevious = null;
+        node.myNext = myHead;
+        if(myHead == null)
+        {
+            myTail = node;
+        }
+        else
+        {
+            myHead.myPrevious = node;
+        }
+        myHead = node;
+    }
+
+    /**
+     *  Unlinks a node from the chain; the caller keeps the map and the
+     *  total weight in step
+     */
+    private void unlink(Node<K, V> node)
+    {
+        if(node.myPrevious == null)
+        {
+            myHead = node.myNext;
+        }
+        else
+        {
+            node.myPrevious.myNext = node.myNext;
+        }
+        if(node.myNext == null)
+        {
+            myTail = node.myPrevious;
+        }
+        else
+        {
+            node.myNext.myPrevious = node.myPrevious;
+        }
+        node.myPrevious = null;
+        node.myNext = null;
+    }
+
+    private static class Node<K, V>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final K myKey;
+        private V myValue;
+        private long myWeight;
+        private Node<K, V> myPrevious;
+        private Node<K, V> myNext;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for an unlinked node holding one entry
+         *
+         *  @param key the key of the entry
+         *  @param value the value of the entry
+         *  @param weight the weight of the entry
+         */
+        public Node(K key, V value, long weight)
+        {
+            myKey = key;
+            myValue = value;
+            myWeight = weight;
+        }
+    }
+}
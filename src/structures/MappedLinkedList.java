@@ -0,0 +1,883 @@
+package structures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ *  A singly linked list that lives in a memory-mapped file and survives
+ *  restarts.  Like {@link OffHeapLinkedList}, every node is a fixed-size
+ *  slot holding the index of the next slot followed by the element
+ *  encoded by a {@link RecordCodec}, and slots of removed nodes are kept
+ *  on a free list to be reused.  A small header at the start of the file
+ *  holds the head, tail, size and free list.
+ *
+ *  File layout:
+ *  <pre>
+ *  | header (HEADER_SIZE bytes) | chunk 0 | chunk 1 | ...
+ *  slot: | next slot (int, -1 for none) | record (codec.recordSize() bytes) |
+ *  </pre>
+ *
+ *  The file is mapped a chunk at a time, and only when a slot in that
+ *  chunk is first reached, so opening a list reads the header alone and
+ *  the operating system faults pages in as a traversal reaches them.
+ *
+ *  Every change is first described by redo entries, which set a next
+ *  pointer, a record or the header, and the entries are appended to a
+ *  log file next to the list as one frame with a checksum.  Only then
+ *  are the entries applied to the mapped file.  If the process dies
+ *  part way, opening the list replays every complete frame; replaying
+ *  a frame that was already applied writes the same bytes again, and a
+ *  frame cut short by the crash is dropped together with the change it
+ *  described.  {@link #checkpoint()} forces the mapped file to disk and
+ *  empties the log, and close checkpoints, so after a clean shutdown the
+ *  log is empty and opening takes constant time.  Changes reach the disk
+ *  itself, rather than the operating system's cache, only when
+ *  {@link #sync()} or checkpoint is called.
+ *
+ *  Null elements are not supported.  Java 8 has no way to unmap a file,
+ *  so the mapping is released once the closed list is collected.
+ */
+public class MappedLinkedList<E> implements AutoCloseable
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Largest number of slots in one mapped chunk. */
+    public static final int MAX_SLOTS_PER_CHUNK = 1 << 16;
+
+    /** Bytes at the start of the file reserved for the header. */
+    public static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC = 0x4C4C4D50;
+    private static final int VERSION = 1;
+
+    private static final int NONE = -1;
+    private static final int NEXT_SIZE = 4;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int HEAD_OFFSET = 12;
+    private static final int TAIL_OFFSET = 16;
+    private static final int SIZE_OFFSET = 20;
+    private static final int USED_SLOTS_OFFSET = 24;
+    private static final int FREE_SLOT_OFFSET = 28;
+
+    private static final byte SET_NEXT = 1;
+    private static final byte SET_RECORD = 2;
+    private static final byte SET_HEADER = 3;
+
+    private final RecordCodec<E> myCodec;
+    private final int myRecordSize;
+    private final int mySlotSize;
+    private final int myChunkShift;
+    private final int myChunkMask;
+    private final ByteBuffer myProbe;
+    private final ByteBuffer myFrame;
+    private final CRC32 myChecksum;
+
+    private FileChannel myData;
+    private FileChannel myLog;
+    private MappedByteBuffer myHeader;
+    private MappedByteBuffer[] myChunks;
+    private int myHead;
+    private int myTail;
+    private int mySize;
+    private int myUsedSlots;
+    private int myFreeSlot;
+    private IOException myFailure;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Opens the list stored at path, creating an empty one if there is
+     *  no file there.  The log is kept at path with ".log" appended; any
+     *  complete changes left in it by a crash are replayed first
+     *
+     *  @param path the file holding the list
+     *  @param codec the codec used to write and read elements; it must
+     *         have the record size the list was created with
+     *
+     *  @return the opened list
+     *
+     *  @throws IOException if the files cannot be opened or path holds
+     *          something other than a list with this record size
+     */
+    public static <E> MappedLinkedList<E> open(Path path, RecordCodec<E> codec) throws IOException
+    {
+        MappedLinkedList<E> list = new MappedLinkedList<E>(codec);
+
+        try
+        {
+            list.openFiles(path, path.resolveSibling(path.getFileName() + ".log"));
+        }
+        catch(IOException | RuntimeException e)
+        {
+            list.closeFiles();
+            throw e;
+        }
+        return list;
+    }
+
+    /**
+     *  Constructor that sets up the slot geometry for a codec; the
+     *  files are opened by {@link #open}
+     *
+     *  @param codec the codec used to write and read elements
+     */
+    private MappedLinkedList(RecordCodec<E> codec)
+    {
+        int slotsPerChunk;
+
+        myCodec = codec;
+        myRecordSize = codec.recordSize();
+        mySlotSize = NEXT_SIZE + myRecordSize;
+
+        slotsPerChunk = Math.min(MAX_SLOTS_PER_CHUNK, Integer.highestOneBit(Integer.MAX_VALUE / mySlotSize));
+        myChunkShift = Integer.numberOfTrailingZeros(slotsPerChunk);
+        myChunkMask = slotsPerChunk - 1;
+        myProbe = ByteBuffer.allocate(myRecordSize);
+        // Room for the largest change: a record, two next pointers and the header.
+        myFrame = ByteBuffer.allocate(64 + myRecordSize);
+        myChecksum = new CRC32();
+    }
+
+    /**
+     *  Adds an element to the head of the list
+     *
+     *  <pre>
+     *  pre:  the list may be empty or contain one or more nodes
+     *  post: the list contains one more node that has been added
+     *        to the beginning of the list
+     *  </pre>
+     *
+     *  @param datum the element to be entered at the head of the list
+     */
+    public void addFirst(E datum)
+    {
+        int slot = this.newSlot(datum);
+
+        this.logNext(slot, myHead);
+        if(myHead == NONE)
+        {
+            myTail = slot;
+        }
+        myHead = slot;
+        mySize++;
+        this.commit();
+    }
+
+    /**
+     *  Adds an element to the tail of the list
+     *
+     *  <pre>
+     *  pre:  the list may be empty or contain one or more nodes
+     *  post: the list contains one more node that has been added
+     *        to the end of the list
+     *  </pre>
+     *
+     *  @param datum the element to be entered at the tail of the list
+     */
+    public void addLast(E datum)
+    {
+        int slot = this.newSlot(datum);
+
+        this.logNext(slot, NONE);
+        if(myHead == NONE)
+        {
+            myHead = slot;
+        }
+        else
+        {
+            this.logNext(myTail, slot);
+        }
+        myTail = slot;
+        mySize++;
+        this.commit();
+    }
+
+    /**
+     *  Deletes the first node holding datum from the list if it is
+     *  there, in a single walk of the list
+     *
+     *  @param datum the element to be deleted from the list
+     *
+     *  @return boolean indicating whether or not a node was deleted
+     */
+    public boolean remove(E datum)
+    {
+        int previousSlot = NONE;
+
+        if(datum == null)
+        {
+            this.checkOpen();
+            return false;
+        }
+        this.encodeProbe(datum);
+
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            if(this.matchesProbe(slot))
+            {
+                this.unlink(previousSlot, slot);
+                return true;
+            }
+            previousSlot = slot;
+        }
+        return false;
+    }
+
+    /**
+     *  Determine if a node exists in the list holding datum
+     *
+     *  @param datum the element to be found in the list
+     *
+     *  @return true if the element is in the list, false otherwise
+     */
+    public boolean contains(E datum)
+    {
+        return this.indexOf(datum) >= 0;
+    }
+
+    /**
+     *  Method to find the index of the first node holding datum.
+     *
+     *  @param datum the element we are looking for
+     *  @return the index of the node in the list, or -1 if it is not there
+     */
+    public int indexOf(E datum)
+    {
+        int index = 0;
+
+        if(datum == null)
+        {
+            this.checkOpen();
+            return -1;
+        }
+        this.encodeProbe(datum);
+
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            if(this.matchesProbe(slot))
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     *  Method to remove the first node in the list.
+     *
+     *  @return the element of the removed node, or null if the list is empty
+     */
+    public E removeFirst()
+    {
+        E datum = this.getFirst();
+
+        if(datum != null)
+        {
+            this.unlink(NONE, myHead);
+        }
+        return datum;
+    }
+
+    /**
+     *  Method to remove the last node in the list; the node before
+     *  the tail is found with a single walk of the list.
+     *
+     *  @return the element of the removed node, or null if the list is empty
+     */
+    public E removeLast()
+    {
+        E datum = this.getLast();
+        int previousSlot = NONE;
+
+        if(datum == null)
+        {
+            return null;
+        }
+        for(int slot = myHead; slot != myTail; slot = this.getNext(slot))
+        {
+            previousSlot = slot;
+        }
+        this.unlink(previousSlot, myTail);
+        return datum;
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        this.checkOpen();
+        return mySize;
+    }
+
+    /**
+     *  Method that gets the element of the first node in the list.
+     *  @return element of first node, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        this.checkOpen();
+        if(myHead == NONE)
+        {
+            return null;
+        }
+        return this.read(myHead);
+    }
+
+    /**
+     *  Method that gets the element of the last node in the list.
+     *  @return element of last node, or null if the list is empty
+     */
+    public E getLast()
+    {
+        this.checkOpen();
+        if(myTail == NONE)
+        {
+            return null;
+        }
+        return this.read(myTail);
+    }
+
+    /**
+     *  Forces the log to disk, so every change made so far survives a
+     *  crash of the machine and not only of the process
+     *
+     *  @throws IOException if the log cannot be forced
+     */
+    public void sync() throws IOException
+    {
+        this.checkOpen();
+        myLog.force(false);
+    }
+
+    /**
+     *  Forces the mapped file to disk and empties the log, whose
+     *  changes are then all held by the file itself
+     *
+     *  @throws IOException if the files cannot be forced or the log
+     *          cannot be truncated
+     */
+    public void checkpoint() throws IOException
+    {
+        this.checkOpen();
+        myHeader.force();
+        for(MappedByteBuffer chunk : myChunks)
+        {
+            if(chunk != null)
+            {
+                chunk.force();
+            }
+        }
+        myLog.truncate(0);
+        myLog.force(true);
+    }
+
+    /**
+     *  Determine whether the list can still be used
+     *
+     *  @return false once {@link #close()} has been called
+     */
+    public boolean isOpen()
+    {
+        return myData != null;
+    }
+
+    /**
+     *  Checkpoints the list and closes its files; the list is unusable
+     *  afterwards.  Closing an already closed list has no effect.
+     *
+     *  @throws IOException if the checkpoint fails; the files are
+     *          closed regardless.  A list whose log could not be
+     *          written is closed without a checkpoint
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if(myData == null)
+        {
+            return;
+        }
+        try
+        {
+            if(myFailure == null)
+            {
+                this.checkpoint();
+            }
+        }
+        finally
+        {
+            this.closeFiles();
+        }
+    }
+
+    /**
+     *  print the list in the same format as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        this.checkOpen();
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            string.append(this.read(slot)).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Opens and maps the files, writing a header into a new file or
+     *  checking the header of an existing one, then replays the log
+     *
+     *  @param dataPath the file holding the list
+     *  @param logPath the file holding the log
+     *
+     *  @throws IOException if the files cannot be used
+     */
+    private void openFiles(Path dataPath, Path logPath) throws IOException
+    {
+        boolean created;
+
+        myData = FileChannel.open(dataPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                  StandardOpenOption.WRITE);
+        myLog  = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                  StandardOpenOption.WRITE);
+        created = (myData.size() == 0);
+        myHeader = myData.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        myChunks = new MappedByteBuffer[4];
+
+        if(created)
+        {
+            myHeader.putInt(MAGIC_OFFSET, MAGIC);
+            myHeader.putInt(VERSION_OFFSET, VERSION);
+            myHeader.putInt(RECORD_SIZE_OFFSET, myRecordSize);
+            myHead = NONE;
+            myTail = NONE;
+            myFreeSlot = NONE;
+            this.logHeader();
+            myFrame.flip();
+            this.applyFrame(myFrame);
+            myFrame.clear();
+        }
+        else if(myHeader.getInt(MAGIC_OFFSET) != MAGIC || myHeader.getInt(VERSION_OFFSET) > VERSION)
+        {
+            throw new IOException("Not a list file: " + dataPath);
+        }
+        else if(myHeader.getInt(RECORD_SIZE_OFFSET) != myRecordSize)
+        {
+            throw new IOException("List records are " + myHeader.getInt(RECORD_SIZE_OFFSET)
+                                  + " bytes, codec records are " + myRecordSize);
+        }
+
+        if(myLog.size() > 0)
+        {
+            this.replayLog();
+            this.checkpoint();
+        }
+        myLog.position(myLog.size());
+        this.readHeader();
+    }
+
+    /**
+     *  Applies every complete, undamaged frame in the log in order and
+     *  stops at the first one that is not
+     *
+     *  @throws IOException if the log cannot be read
+     */
+    private void replayLog() throws IOException
+    {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        ByteBuffer frame = ByteBuffer.allocate(myFrame.capacity());
+        ByteBuffer checksum = ByteBuffer.allocate(8);
+        long position = 0;
+
+        while(true)
+        {
+            int frameLength;
+
+            length.clear();
+            if(!this.readLog(length, position))
+            {
+                return;
+            }
+            frameLength = length.getInt(0);
+            if(frameLength <= 0 || frameLength > frame.capacity())
+            {
+                return;
+            }
+
+            frame.clear().limit(frameLength);
+            checksum.clear();
+            if(!this.readLog(frame, position + 4) || !this.readLog(checksum, position + 4 + frameLength))
+            {
+                return;
+            }
+            myChecksum.reset();
+            myChecksum.update(frame.array(), 0, frameLength);
+            if(myChecksum.getValue() != checksum.getLong(0))
+            {
+                return;
+            }
+
+            frame.flip();
+            this.applyFrame(frame);
+            position += 4 + frameLength + 8;
+        }
+    }
+
+    /**
+     *  Reads from the log at a position until buffer is full
+     *
+     *  @return false if the log ends first
+     */
+    private boolean readLog(ByteBuffer buffer, long position) throws IOException
+    {
+        while(buffer.hasRemaining())
+        {
+            int read = myLog.read(buffer, position);
+
+            if(read < 0)
+            {
+                return false;
+            }
+            position += read;
+        }
+        return true;
+    }
+
+    /**
+     *  Takes a slot from the free list, or from the end of the used
+     *  slots, and logs datum as its record
+     *
+     *  @param datum the element to be written into the slot
+     *
+     *  @return the index of the slot
+     */
+    private int newSlot(E datum)
+    {
+        int slot;
+        int offset;
+
+        if(datum == null)
+        {
+            throw new NullPointerException("Null elements cannot be stored in a mapped list");
+        }
+        this.checkOpen();
+
+        if(myFreeSlot != NONE)
+        {
+            slot = myFreeSlot;
+            myFreeSlot = this.getNext(slot);
+        }
+        else
+        {
+            slot = myUsedSlots++;
+        }
+
+        myFrame.put(SET_RECORD).putInt(slot);
+        offset = myFrame.position();
+        myCodec.write(datum, myFrame, offset);
+        myFrame.position(offset + myRecordSize);
+        return slot;
+    }
+
+    /**
+     *  Unlinks a slot from the list given the slot that precedes it
+     *  and puts it on the free list
+     *
+     *  @param previousSlot the slot directly before slot, or NONE
+     *         if slot is the head
+     *  @param slot the slot to be unlinked
+     */
+    private void unlink(int previousSlot, int slot)
+    {
+        int nextSlot = this.getNext(slot);
+
+        if(previousSlot == NONE)
+        {
+            myHead = nextSlot;
+        }
+        else
+        {
+            this.logNext(previousSlot, nextSlot);
+        }
+
+        if(myTail == slot)
+        {
+            myTail = previousSlot;
+        }
+
+        this.logNext(slot, myFreeSlot);
+        myFreeSlot = slot;
+        mySize--;
+        this.commit();
+    }
+
+    private void logNext(int slot, int nextSlot)
+    {
+        myFrame.put(SET_NEXT).putInt(slot).putInt(nextSlot);
+    }
+
+    private void logHeader()
+    {
+        myFrame.put(SET_HEADER).putInt(myHead).putInt(myTail).putInt(mySize)
+               .putInt(myUsedSlots).putInt(myFreeSlot);
+    }
+
+    /**
+     *  Ends the change being described: logs the new header, appends
+     *  the frame with its length and checksum to the log, and then
+     *  applies it to the mapped file.  If the log cannot be written the
+     *  mapped file is left as it was, since nothing in the log would
+     *  explain the change, and the list fails every later call; the
+     *  fields held in memory already describe the lost change, so only
+     *  reopening the list brings it back to the last committed state
+     */
+    private void commit()
+    {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        ByteBuffer checksum = ByteBuffer.allocate(8);
+
+        this.logHeader();
+        myFrame.flip();
+        myChecksum.reset();
+        myChecksum.update(myFrame.array(), 0, myFrame.limit());
+        length.putInt(0, myFrame.limit());
+        checksum.putLong(0, myChecksum.getValue());
+
+        try
+        {
+            ByteBuffer[] buffers = {length, myFrame.duplicate(), checksum};
+
+            while(checksum.hasRemaining())
+            {
+                myLog.write(buffers);
+            }
+        }
+        catch(IOException e)
+        {
+            myFrame.clear();
+            myFailure = e;
+            throw new UncheckedIOException(e);
+        }
+        this.applyFrame(myFrame);
+        myFrame.clear();
+    }
+
+    /**
+     *  Carries out the redo entries of a frame on the mapped file; the
+     *  entries set values outright, so applying a frame twice does no harm
+     *
+     *  @param frame the entries, from its position to its limit
+     */
+    private void applyFrame(ByteBuffer frame)
+    {
+        while(frame.hasRemaining())
+        {
+            byte entry = frame.get();
+            int slot;
+
+            if(entry == SET_NEXT)
+            {
+                slot = frame.getInt();
+                this.setNext(slot, frame.getInt());
+            }
+            else if(entry == SET_RECORD)
+            {
+                ByteBuffer record = frame.duplicate();
+                ByteBuffer target;
+
+                slot = frame.getInt();
+                record.position(frame.position()).limit(frame.position() + myRecordSize);
+                target = this.chunk(slot).duplicate();
+                target.position(this.offset(slot) + NEXT_SIZE);
+                target.put(record);
+                frame.position(frame.position() + myRecordSize);
+            }
+            else if(entry == SET_HEADER)
+            {
+                myHeader.putInt(HEAD_OFFSET, frame.getInt());
+                myHeader.putInt(TAIL_OFFSET, frame.getInt());
+                myHeader.putInt(SIZE_OFFSET, frame.getInt());
+                myHeader.putInt(USED_SLOTS_OFFSET, frame.getInt());
+                myHeader.putInt(FREE_SLOT_OFFSET, frame.getInt());
+            }
+            else
+            {
+                throw new IllegalStateException("Unknown log entry " + entry);
+            }
+        }
+    }
+
+    private void readHeader()
+    {
+        myHead = myHeader.getInt(HEAD_OFFSET);
+        myTail = myHeader.getInt(TAIL_OFFSET);
+        mySize = myHeader.getInt(SIZE_OFFSET);
+        myUsedSlots = myHeader.getInt(USED_SLOTS_OFFSET);
+        myFreeSlot = myHeader.getInt(FREE_SLOT_OFFSET);
+    }
+
+    /**
+     *  Writes datum into the probe buffer so that records can be
+     *  compared with it byte for byte
+     *
+     *  @param datum the element being looked for
+     */
+    private void encodeProbe(E datum)
+    {
+        this.checkOpen();
+        myCodec.write(datum, myProbe, 0);
+    }
+
+    /**
+     *  Compares the record in a slot with the probe buffer, eight
+     *  bytes at a time where possible
+     *
+     *  @param slot the slot whose record is compared
+     *
+     *  @return true if the record holds the same bytes as the probe
+     */
+    private boolean matchesProbe(int slot)
+    {
+        ByteBuffer chunk = this.chunk(slot);
+        int offset = this.offset(slot) + NEXT_SIZE;
+        int i = 0;
+
+        for(; i + 8 <= myRecordSize; i += 8)
+        {
+            if(chunk.getLong(offset + i) != myProbe.getLong(i))
+            {
+                return false;
+            }
+        }
+        for(; i < myRecordSize; i++)
+        {
+            if(chunk.get(offset + i) != myProbe.get(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private E read(int slot)
+    {
+        return myCodec.read(this.chunk(slot), this.offset(slot) + NEXT_SIZE);
+    }
+
+    private int getNext(int slot)
+    {
+        return this.chunk(slot).getInt(this.offset(slot));
+    }
+
+    private void setNext(int slot, int nextSlot)
+    {
+        this.chunk(slot).putInt(this.offset(slot), nextSlot);
+    }
+
+    /**
+     *  Returns the mapped chunk holding a slot, mapping it on first use;
+     *  mapping past the end of the file makes the file longer
+     *
+     *  @param slot the index of the slot
+     *
+     *  @return the chunk holding slot
+     */
+    private MappedByteBuffer chunk(int slot)
+    {
+        int index = slot >>> myChunkShift;
+        long chunkSize = (long) (myChunkMask + 1) * mySlotSize;
+
+        if(index >= myChunks.length)
+        {
+            MappedByteBuffer[] chunks = new MappedByteBuffer[Math.max(index + 1, myChunks.length * 2)];
+
+            System.arraycopy(myChunks, 0, chunks, 0, myChunks.length);
+            myChunks = chunks;
+        }
+        if(myChunks[index] == null)
+        {
+            try
+            {
+                myChunks[index] = myData.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + index * chunkSize,
+                                             chunkSize);
+            }
+            catch(IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return myChunks[index];
+    }
+
+    private int offset(int slot)
+    {
+        return (slot & myChunkMask) * mySlotSize;
+    }
+
+    /**
+     *  Closes both files, ignoring failures, and drops the mappings
+     */
+    private void closeFiles()
+    {
+        for(FileChannel channel : new FileChannel[] {myData, myLog})
+        {
+            try
+            {
+                if(channel != null)
+                {
+                    channel.close();
+                }
+            }
+            catch(IOException e)
+            {
+                // Nothing more can be done with a file that fails to close.
+            }
+        }
+        myData = null;
+        myLog = null;
+        myHeader = null;
+        myChunks = null;
+        myHead = NONE;
+        myTail = NONE;
+        mySize = 0;
+        myUsedSlots = 0;
+        myFreeSlot = NONE;
+    }
+
+    private void checkOpen()
+    {
+        if(myData == null)
+        {
+            throw new IllegalStateException("The list has been closed");
+        }
+        if(myFailure != null)
+        {
+            throw new IllegalStateException("The log could not be written; reopen the list to recover",
+                                            myFailure);
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package structures;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ *  A singly linked list whose nodes live outside the Java heap.  Every
+ *  node is a fixed-size slot in a direct ByteBuffer holding the index of
+ *  the next slot followed by the element encoded by a {@link RecordCodec}.
+ *  The heap only holds this handle and the array of buffers, so the
+ *  garbage collector has almost nothing to trace however long the list is.
+ *
+ *  Slot layout:
+ *  <pre>
+ *  | next slot (int, -1 for none) | record (codec.recordSize() bytes) |
+ *  </pre>
+ *
+ *  Buffers are allocated in chunks as the list grows, so growing never
+ *  copies existing nodes, and slots of removed nodes are kept on a free
+ *  list to be reused.  Lookups encode the element being searched for once
+ *  and compare raw bytes, so scanning the list does not decode records or
+ *  create objects.
+ *
+ *  The list must be closed when no longer needed.  Closing drops every
+ *  buffer so the native memory is returned once the buffers are
+ *  collected; any later call other than isOpen or close throws
+ *  IllegalStateException.  Null elements are not supported.
+ */
+public class OffHeapLinkedList<E> implements AutoCloseable
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Largest number of slots held by one buffer. */
+    public static final int MAX_SLOTS_PER_CHUNK = 1 << 16;
+
+    private static final int NONE = -1;
+    private static final int NEXT_SIZE = 4;
+
+    private final RecordCodec<E> myCodec;
+    private final int myRecordSize;
+    private final int mySlotSize;
+    private final int myChunkShift;
+    private final int myChunkMask;
+    private final ByteBuffer myProbe;
+
+    private ByteBuffer[] myChunks;
+    private int myChunkCount;
+    private int myUsedSlots;
+    private int myFreeSlot;
+    private int myHead;
+    private int myTail;
+    private int mySize;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Constructor that creates an empty list storing its elements
+     *  with the given codec; no native memory is allocated until
+     *  the first element is added
+     *
+     *  @param codec the codec used to write and read elements
+     */
+    public OffHeapLinkedList(RecordCodec<E> codec)
+    {
+        int slotsPerChunk;
+
+        myCodec = codec;
+        myRecordSize = codec.recordSize();
+        mySlotSize = NEXT_SIZE + myRecordSize;
+
+        slotsPerChunk = Math.min(MAX_SLOTS_PER_CHUNK, Integer.highestOneBit(Integer.MAX_VALUE / mySlotSize));
+        myChunkShift = Integer.numberOfTrailingZeros(slotsPerChunk);
+        myChunkMask = slotsPerChunk - 1;
+        myProbe = ByteBuffer.allocate(myRecordSize).order(ByteOrder.nativeOrder());
+
+        myChunks = new ByteBuffer[4];
+        myChunkCount = 0;
+        myUsedSlots = 0;
+        myFreeSlot = NONE;
+        myHead = NONE;
+        myTail = NONE;
+        mySize = 0;
+    }
+
+    /**
+     *  Adds an element to the head of the list
+     *
+     *  <pre>
+     *  pre:  the list may be empty or contain one or more nodes
+     *  post: the list contains one more node that has been added
+     *        to the beginning of the list
+     *  </pre>
+     *
+     *  @param datum the element to be entered at the head of the list
+     */
+    public void addFirst(E datum)
+    {
+        int slot = this.newSlot(datum);
+
+        this.setNext(slot, myHead);
+        if(myHead == NONE)
+        {
+            myTail = slot;
+        }
+        myHead = slot;
+        mySize++;
+    }
+
+    /**
+     *  Adds an element to the tail of the list
+     *
+     *  <pre>
+     *  pre:  the list may be empty or contain one or more nodes
+     *  post: the list contains one more node that has been added
+     *        to the end of the list
+     *  </pre>
+     *
+     *  @param datum the element to be entered at the tail of the list
+     */
+    public void addLast(E datum)
+    {
+        int slot = this.newSlot(datum);
+
+        this.setNext(slot, NONE);
+        if(myHead == NONE)
+        {
+            myHead = slot;
+        }
+        else
+        {
+            this.setNext(myTail, slot);
+        }
+        myTail = slot;
+        mySize++;
+    }
+
+    /**
+     *  Deletes the first node holding datum from the list if it is
+     *  there, in a single walk of the list
+     *
+     *  @param datum the element to be deleted from the list
+     *
+     *  @return boolean indicating whether or not a node was deleted
+     */
+    public boolean remove(E datum)
+    {
+        int previousSlot = NONE;
+
+        if(datum == null)
+        {
+            this.checkOpen();
+            return false;
+        }
+        this.encodeProbe(datum);
+
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            if(this.matchesProbe(slot))
+            {
+                this.unlink(previousSlot, slot);
+                return true;
+            }
+            previousSlot = slot;
+        }
+        return false;
+    }
+
+    /**
+     *  Determine if a node exists in the list holding datum
+     *
+     *  @param datum the element to be found in the list
+     *
+     *  @return true if the element is in the list, false otherwise
+     */
+    public boolean contains(E datum)
+    {
+        return this.indexOf(datum) >= 0;
+    }
+
+    /**
+     *  Method to find the index of the first node holding datum.
+     *
+     *  @param datum the element we are looking for
+     *  @return the index of the node in the list, or -1 if it is not there
+     */
+    public int indexOf(E datum)
+    {
+        int index = 0;
+
+        if(datum == null)
+        {
+            this.checkOpen();
+            return -1;
+        }
+        this.encodeProbe(datum);
+
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            if(this.matchesProbe(slot))
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     *  A new node holding datum is entered into the list directly
+     *  following the first node holding beforeDatum, matching the
+     *  placement used by {@link LinkedList#insertBefore}
+     *
+     *  @param datum the element to be entered into the list
+     *  @param beforeDatum the element of the node by which the new
+     *         node is to be entered
+     *
+     *  @return boolean designating if the node was or was not entered
+     */
+    public boolean insertBefore(E datum, E beforeDatum)
+    {
+        if(beforeDatum == null)
+        {
+            this.checkOpen();
+            return false;
+        }
+        this.encodeProbe(beforeDatum);
+
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            if(this.matchesProbe(slot))
+            {
+                int newSlot = this.newSlot(datum);
+
+                this.setNext(newSlot, this.getNext(slot));
+                this.setNext(slot, newSlot);
+                if(myTail == slot)
+                {
+                    myTail = newSlot;
+                }
+                mySize++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  Method to remove the first node in the list.
+     *
+     *  @return the element of the removed node, or null if the list is empty
+     */
+    public E removeFirst()
+    {
+        E datum = this.getFirst();
+
+        if(datum != null)
+        {
+            this.unlink(NONE, myHead);
+        }
+        return datum;
+    }
+
+    /**
+     *  Method to remove the last node in the list; the node before
+     *  the tail is found with a single walk of the list.
+     *
+     *  @return the element of the removed node, or null if the list is empty
+     */
+    public E removeLast()
+    {
+        E datum = this.getLast();
+        int previousSlot = NONE;
+
+        if(datum == null)
+        {
+            return null;
+        }
+        for(int slot = myHead; slot != myTail; slot = this.getNext(slot))
+        {
+            previousSlot = slot;
+        }
+        this.unlink(previousSlot, myTail);
+        return datum;
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        this.checkOpen();
+        return mySize;
+    }
+
+    /**
+     *  Method that gets the element of the first node in the list.
+     *  @return element of first node, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        this.checkOpen();
+        if(myHead == NONE)
+        {
+            return null;
+        }
+        return this.read(myHead);
+    }
+
+    /**
+     *  Method that gets the element of the last node in the list.
+     *  @return element of last node, or null if the list is empty
+     */
+    public E getLast()
+    {
+        this.checkOpen();
+        if(myTail == NONE)
+        {
+            return null;
+        }
+        return this.read(myTail);
+    }
+
+    /**
+     *  Determine whether the list can still be used
+     *
+     *  @return false once {@link #close()} has been called
+     */
+    public boolean isOpen()
+    {
+        return myChunks != null;
+    }
+
+    /**
+     *  Releases the buffers holding the nodes; the list is empty and
+     *  unusable afterwards.  Closing an already closed list has no effect.
+     */
+    @Override
+    public void close()
+    {
+        myChunks = null;
+        myChunkCount = 0;
+        myUsedSlots = 0;
+        myFreeSlot = NONE;
+        myHead = NONE;
+        myTail = NONE;
+        mySize = 0;
+    }
+
+    /**
+     *  print the list in the same format as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        this.checkOpen();
+        for(int slot = myHead; slot != NONE; slot = this.getNext(slot))
+        {
+            string.append(this.read(slot)).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Takes a slot from the free list, or from the end of the used
+     *  slots, allocating a new buffer when every slot is in use, and
+     *  writes datum into it
+     *
+     *  @param datum the element to be written into the slot
+     *
+     *  @return the index of the slot
+     */
+    private int newSlot(E datum)
+    {
+        int slot;
+
+        if(datum == null)
+        {
+            throw new NullPointerException("Null elements cannot be stored off heap");
+        }
+        this.checkOpen();
+
+        if(myFreeSlot != NONE)
+        {
+            slot = myFreeSlot;
+            myFreeSlot = this.getNext(slot);
+        }
+        else
+        {
+            if(myUsedSlots == (myChunkCount << myChunkShift))
+            {
+                this.addChunk();
+            }
+            slot = myUsedSlots++;
+        }
+
+        myCodec.write(datum, this.chunk(slot), this.offset(slot) + NEXT_SIZE);
+        return slot;
+    }
+
+    /**
+     *  Allocates one more buffer of slots
+     */
+    private void addChunk()
+    {
+        if(myChunkCount == myChunks.length)
+        {
+            ByteBuffer[] chunks = new ByteBuffer[myChunkCount * 2];
+
+            System.arraycopy(myChunks, 0, chunks, 0, myChunkCount);
+            myChunks = chunks;
+        }
+        myChunks[myChunkCount++] = ByteBuffer.allocateDirect((myChunkMask + 1) * mySlotSize)
+                                             .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     *  Unlinks a slot from the list given the slot that precedes it
+     *  and puts it on the free list
+     *
+     *  @param previousSlot the slot directly before slot, or NONE
+     *         if slot is the head
+     *  @param slot the slot to be unlinked
+     */
+    private void unlink(int previousSlot, int slot)
+    {
+        int nextSlot = this.getNext(slot);
+
+        if(previousSlot == NONE)
+        {
+            myHead = nextSlot;
+        }
+        else
+        {
+            this.setNext(previousSlot, nextSlot);
+        }
+
+        if(myTail == slot)
+        {
+            myTail = previousSlot;
+        }
+
+        this.setNext(slot, myFreeSlot);
+        myFreeSlot = slot;
+        mySize--;
+    }
+
+    /**
+     *  Writes datum into the probe buffer so that records can be
+     *  compared with it byte for byte
+     *
+     *  @param datum the element being looked for
+     */
+    private void encodeProbe(E datum)
+    {
+        this.checkOpen();
+        myCodec.write(datum, myProbe, 0);
+    }
+
+    /**
+     *  Compares the record in a slot with the probe buffer, eight
+     *  bytes at a time where possible
+     *
+     *  @param slot the slot whose record is compared
+     *
+     *  @return true if the record holds the same bytes as the probe
+     */
+    private boolean matchesProbe(int slot)
+    {
+        ByteBuffer chunk = this.chunk(slot);
+        int offset = this.offset(slot) + NEXT_SIZE;
+        int i = 0;
+
+        for(; i + 8 <= myRecordSize; i += 8)
+        {
+            if(chunk.getLong(offset + i) != myProbe.getLong(i))
+            {
+                return false;
+            }
+        }
+        for(; i < myRecordSize; i++)
+        {
+            if(chunk.get(offset + i) != myProbe.get(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private E read(int slot)
+    {
+        return myCodec.read(this.chunk(slot), this.offset(slot) + NEXT_SIZE);
+    }
+
+    private int getNext(int slot)
+    {
+        return this.chunk(slot).getInt(this.offset(slot));
+    }
+
+    private void setNext(int slot, int nextSlot)
+    {
+        this.chunk(slot).putInt(this.offset(slot), nextSlot);
+    }
+
+    private ByteBuffer chunk(int slot)
+    {
+        return myChunks[slot >>> myChunkShift];
+    }
+
+    private int offset(int slot)
+    {
+        return (slot & myChunkMask) * mySlotSize;
+    }
+
+    private void checkOpen()
+    {
+        if(myChunks == null)
+        {
+            throw new IllegalStateException("The list has been closed");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package structures;
+
+import java.nio.ByteBuffer;
+
+/**
+ *  Converts elements to and from fixed-size records so they can be
+ *  stored outside the Java heap by {@link OffHeapLinkedList}.
+ *
+ *  Implementations must use the absolute get and put methods of the
+ *  buffer they are given and leave its position and limit untouched.
+ *  Two elements are considered equal by the list when their encoded
+ *  records hold the same bytes, so an encoding must be canonical: equal
+ *  elements must always produce identical records.
+ */
+public interface RecordCodec<E>
+{
+    /**
+     *  @return the number of bytes every record takes
+     */
+    int recordSize();
+
+    /**
+     *  Writes an element as a record
+     *
+     *  @param datum the element to be written, never null
+     *  @param buffer the buffer to write into
+     *  @param offset the index of the first byte of the record
+     */
+    void write(E datum, ByteBuffer buffer, int offset);
+
+    /**
+     *  Reads an element back from a record
+     *
+     *  @param buffer the buffer to read from
+     *  @param offset the index of the first byte of the record
+     *
+     *  @return the element the record was written from
+     */
+    E read(ByteBuffer buffer, int offset);
+}
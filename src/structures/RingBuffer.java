@@ -0,0 +1,349 @@
+package structures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ *  A list of bounded size offering the addLast, getFirst, getLast and
+ *  removeFirst methods of {@link LinkedList}, for keeping a rolling
+ *  window of the most recent elements.  The elements are kept in one
+ *  array allocated when the buffer is created and used as a circle: the
+ *  first element may be anywhere in the array and the rest follow it,
+ *  wrapping around from the end of the array to its start.
+ *
+ *  Adding to a full buffer overwrites the oldest element, so a window
+ *  of the last capacity elements is kept by addLast alone.  Adding and
+ *  removing at either end only moves an index, and nothing is allocated
+ *  after construction except by iterator and toString.
+ */
+public class RingBuffer<E> implements Iterable<E>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    private final Object[] myElements;
+    private int myFirst;
+    private int mySize;
+    private int myModCount;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Constructor that creates an empty buffer
+     *
+     *  <pre>
+     *  pre:  capacity is positive
+     *  post: the buffer is empty
+     *  </pre>
+     *
+     *  @param capacity the most elements the buffer holds
+     */
+    public RingBuffer(int capacity)
+    {
+        if(capacity <= 0)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        myElements = new Object[capacity];
+        myFirst = 0;
+        mySize = 0;
+    }
+
+    /**
+     *  Adds an element after the last one.  If the buffer is full the
+     *  first, oldest element is overwritten and the one after it
+     *  becomes the first
+     *
+     *  <pre>
+     *  pre:  the buffer has 0 or more elements
+     *  post: datum is the last element; the buffer holds one more
+     *        element unless it was full
+     *  </pre>
+     *
+     *  @param datum the element to be added
+     *
+     *  @return the element overwritten, or null if the buffer was not full
+     */
+    public E addLast(E datum)
+    {
+        E overwritten = null;
+
+        if(mySize == myElements.length)
+        {
+            overwritten = this.elementAt(myFirst);
+            myElements[myFirst] = datum;
+            myFirst = this.next(myFirst);
+        }
+        else
+        {
+            myElements[this.slot(mySize)] = datum;
+            mySize++;
+        }
+        myModCount++;
+        return overwritten;
+    }
+
+    /**
+     *  Adds an element before the first one.  If the buffer is full the
+     *  last element is overwritten, since the buffer keeps the elements
+     *  nearest its start
+     *
+     *  @param datum the element to be added
+     *
+     *  @return the element overwritten, or null if the buffer was not full
+     */
+    public E addFirst(E datum)
+    {
+        E overwritten = null;
+
+        myFirst = (myFirst == 0) ? myElements.length - 1 : myFirst - 1;
+        if(mySize == myElements.length)
+        {
+            overwritten = this.elementAt(myFirst);
+        }
+        else
+        {
+            mySize++;
+        }
+        myElements[myFirst] = datum;
+        myModCount++;
+        return overwritten;
+    }
+
+    /**
+     *  Method to remove the first element in the buffer.
+     *
+     *  @return the removed element, or null if the buffer is empty
+     */
+    public E removeFirst()
+    {
+        E datum;
+
+        if(mySize == 0)
+        {
+            return null;
+        }
+        datum = this.elementAt(myFirst);
+        myElements[myFirst] = null;
+        myFirst = this.next(myFirst);
+        mySize--;
+        myModCount++;
+        return datum;
+    }
+
+    /**
+     *  Method to remove the last element in the buffer.
+     *
+     *  @return the removed element, or null if the buffer is empty
+     */
+    public E removeLast()
+    {
+        E datum;
+        int last;
+
+        if(mySize == 0)
+        {
+            return null;
+        }
+        last = this.slot(mySize - 1);
+        datum = this.elementAt(last);
+        myElements[last] = null;
+        mySize--;
+        myModCount++;
+        return datum;
+    }
+
+    /**
+     *  Method that gets the first element in the buffer.
+     *  @return first element, or null if the buffer is empty
+     */
+    public E getFirst()
+    {
+        return (mySize == 0) ? null : this.elementAt(myFirst);
+    }
+
+    /**
+     *  Method that gets the last element in the buffer.
+     *  @return last element, or null if the buffer is empty
+     */
+    public E getLast()
+    {
+        return (mySize == 0) ? null : this.elementAt(this.slot(mySize - 1));
+    }
+
+    /**
+     *  Method that gets the element at a position, counting from the
+     *  first element
+     *
+     *  @param index the position of the element, counting from 0
+     *
+     *  @return the element at index
+     */
+    public E get(int index)
+    {
+        if(index < 0 || index >= mySize)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mySize);
+        }
+        return this.elementAt(this.slot(index));
+    }
+
+    /**
+     *  Determine if an element equal to the one passed in is in the buffer
+     *
+     *  @param datum the object to be found in the buffer
+     *
+     *  @return true if the object is in the buffer, false otherwise
+     */
+    public boolean contains(E datum)
+    {
+        return this.indexOf(datum) >= 0;
+    }
+
+    /**
+     *  Method to find the position of the first element equal to datum
+     *
+     *  @param datum the object we are looking for
+     *  @return the position of the element counting from the first, or
+     *          -1 if it is not there
+     */
+    public int indexOf(E datum)
+    {
+        for(int i = 0; i < mySize; i++)
+        {
+            if(Objects.equals(myElements[this.slot(i)], datum))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     *  Removes every element, keeping the array for reuse
+     */
+    public void clear()
+    {
+        for(int i = 0; i < mySize; i++)
+        {
+            myElements[this.slot(i)] = null;
+        }
+        myFirst = 0;
+        mySize = 0;
+        myModCount++;
+    }
+
+    /**
+     *  Method to return the size of the buffer.
+     *
+     *  @return buffer size
+     */
+    public int size()
+    {
+        return mySize;
+    }
+
+    /**
+     *  @return the most elements the buffer holds
+     */
+    public int capacity()
+    {
+        return myElements.length;
+    }
+
+    /**
+     *  Determine whether the next addLast will overwrite an element
+     *
+     *  @return true if the buffer holds capacity elements
+     */
+    public boolean isFull()
+    {
+        return mySize == myElements.length;
+    }
+
+    /**
+     *  Returns an iterator over the elements from the first to the
+     *  last.  The iterator fails with a ConcurrentModificationException
+     *  if the buffer is changed while it is in use
+     *
+     *  @return an iterator positioned before the first element
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private int myIndex = 0;
+            private final int myExpectedModCount = myModCount;
+
+            @Override
+            public boolean hasNext()
+            {
+                return myIndex < mySize;
+            }
+
+            @Override
+            public E next()
+            {
+                if(myModCount != myExpectedModCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                if(myIndex >= mySize)
+                {
+                    throw new NoSuchElementException();
+                }
+                return RingBuffer.this.elementAt(RingBuffer.this.slot(myIndex++));
+            }
+        };
+    }
+
+    /**
+     *  print the buffer from its first to its last element in the
+     *  same format as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the buffer has 0 or more elements
+     *  post: no change to the buffer
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        for(int i = 0; i < mySize; i++)
+        {
+            string.append(myElements[this.slot(i)]).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  @param index a position counting from the first element
+     *
+     *  @return the slot of the array holding that position
+     */
+    private int slot(int index)
+    {
+        int untilWrap = myElements.length - myFirst;
+
+        return (index < untilWrap) ? myFirst + index : index - untilWrap;
+    }
+
+    private int next(int slot)
+    {
+        return (slot + 1 == myElements.length) ? 0 : slot + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot)
+    {
+        return (E) myElements[slot];
+    }
+}
@@ -0,0 +1,493 @@
+package structures;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ *  A linked list that keeps its data in sorted order.  The nodes form an
+ *  ordinary chain from head to tail, and on top of that chain each node
+ *  carries a randomly chosen number of extra forward pointers, giving a
+ *  skip list: every level up skips about half of the nodes of the level
+ *  below.  A search drops down these express lanes, so add, contains,
+ *  remove and the start of a range query take expected O(log n), while
+ *  walking the list in order simply follows the bottom chain.
+ *
+ *  Data are ordered by the comparator given to the constructor, or by
+ *  their natural ordering if none is given.  Equal data are allowed and
+ *  are kept in the order they were added.  Null data are not supported.
+ */
+public class SortedLinkedList<E> implements Iterable<E>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Highest number of levels a node can have. */
+    public static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super E> myComparator;
+    private final Node<E> myHead;
+    private final Random myRandom;
+    private Node<E> myTail;
+    private int myLevel;
+    private int mySize;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Constructor that creates an empty list ordered by the natural
+     *  ordering of its data, which must be Comparable
+     */
+    public SortedLinkedList()
+    {
+        this(null);
+    }
+
+    /**
+     *  Constructor that creates an empty list ordered by a comparator
+     *
+     *  @param comparator the comparator used to order the data, or
+     *         null to use their natural ordering
+     */
+    public SortedLinkedList(Comparator<? super E> comparator)
+    {
+        myComparator = comparator;
+        myHead = new Node<E>(null, MAX_LEVEL);
+        myRandom = new Random();
+        myTail = null;
+        myLevel = 1;
+        mySize = 0;
+    }
+
+    /**
+     *  Adds datum to the list in its sorted position, after any data
+     *  equal to it
+     *
+     *  <pre>
+     *  pre:  the list is sorted and has 0 or more nodes
+     *  post: the list is sorted and contains one more node
+     *  </pre>
+     *
+     *  @param datum the object to be entered into the list
+     */
+    @SuppressWarnings("unchecked")
+    public void add(E datum)
+    {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        Node<E> node = myHead;
+        Node<E> newNode;
+        int level;
+
+        if(datum == null)
+        {
+            throw new NullPointerException("Null data cannot be sorted");
+        }
+
+        for(int i = myLevel - 1; i >= 0; i--)
+        {
+            while(node.next(i) != null && this.compare(node.next(i).myData, datum) <= 0)
+            {
+                node = node.next(i);
+            }
+            update[i] = node;
+        }
+
+        level = this.randomLevel();
+        if(level > myLevel)
+        {
+            for(int i = myLevel; i < level; i++)
+            {
+                update[i] = myHead;
+            }
+            myLevel = level;
+        }
+
+        newNode = new Node<E>(datum, level);
+        for(int i = 0; i < level; i++)
+        {
+            newNode.setNext(i, update[i].next(i));
+            update[i].setNext(i, newNode);
+        }
+
+        if(newNode.myNext == null)
+        {
+            myTail = newNode;
+        }
+        mySize++;
+    }
+
+    /**
+     *  Determine if a node exists in the list with datum equal to
+     *  the one passed in according to the ordering of the list
+     *
+     *  @param datum the object to be found in the list
+     *
+     *  @return true if the object is in the list, false otherwise
+     */
+    public boolean contains(E datum)
+    {
+        Node<E> node;
+
+        if(datum == null)
+        {
+            return false;
+        }
+        node = this.findPredecessor(datum).myNext;
+        return node != null && this.compare(node.myData, datum) == 0;
+    }
+
+    /**
+     *  Deletes the first node holding datum from the list if it is there
+     *
+     *  <pre>
+     *  pre:  the list is sorted and has 0 or more nodes
+     *  post: if datum was in the list, its first node no longer
+     *        exists in the list; the list is still sorted
+     *  </pre>
+     *
+     *  @param datum the object to be deleted from the list
+     *
+     *  @return boolean indicating whether or not the node was deleted
+     */
+    @SuppressWarnings("unchecked")
+    public boolean remove(E datum)
+    {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        Node<E> node = myHead;
+
+        if(datum == null)
+        {
+            return false;
+        }
+
+        for(int i = myLevel - 1; i >= 0; i--)
+        {
+            while(node.next(i) != null && this.compare(node.next(i).myData, datum) < 0)
+            {
+                node = node.next(i);
+            }
+            update[i] = node;
+        }
+
+        node = node.myNext;
+        if(node == null || this.compare(node.myData, datum) != 0)
+        {
+            return false;
+        }
+
+        this.unlink(update, node);
+        return true;
+    }
+
+    /**
+     *  Returns the data from fromDatum, inclusive, up to toDatum,
+     *  exclusive, in sorted order.  Finding the start takes expected
+     *  O(log n) and the data are then read off the bottom chain
+     *
+     *  @param fromDatum the lowest datum to be returned
+     *  @param toDatum the datum at which to stop
+     *
+     *  @return the data in the range
+     */
+    public List<E> range(E fromDatum, E toDatum)
+    {
+        List<E> data = new ArrayList<E>();
+
+        for(Node<E> node = this.findPredecessor(fromDatum).myNext;
+            node != null && this.compare(node.myData, toDatum) < 0;
+            node = node.myNext)
+        {
+            data.add(node.myData);
+        }
+        return data;
+    }
+
+    /**
+     *  Method to find the index of the first node holding datum; the
+     *  node is found through the express lanes but its position has
+     *  to be counted along the bottom chain.
+     *
+     *  @param datum the object we are looking for
+     *  @return the index of the node in the list, or -1 if it is not there
+     */
+    public int indexOf(E datum)
+    {
+        int index = 0;
+
+        if(!this.contains(datum))
+        {
+            return -1;
+        }
+        for(Node<E> node = myHead.myNext; this.compare(node.myData, datum) < 0; node = node.myNext)
+        {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     *  Method to remove the first, smallest, node in the list.
+     *
+     *  @return the datum of the removed node, or null if the list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E removeFirst()
+    {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        Node<E> node = myHead.myNext;
+
+        if(node == null)
+        {
+            return null;
+        }
+        for(int i = 0; i < myLevel; i++)
+        {
+            update[i] = myHead;
+        }
+        this.unlink(update, node);
+        return node.myData;
+    }
+
+    /**
+     *  Method to remove the last, largest, node in the list.
+     *
+     *  @return the datum of the removed node, or null if the list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E removeLast()
+    {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        Node<E> node = myHead;
+
+        if(myTail == null)
+        {
+            return null;
+        }
+
+        for(int i = myLevel - 1; i >= 0; i--)
+        {
+            while(node.next(i) != null && node.next(i) != myTail)
+            {
+                node = node.next(i);
+            }
+            update[i] = node;
+        }
+
+        node = myTail;
+        this.unlink(update, node);
+        return node.myData;
+    }
+
+    /**
+     *  Method that gets the datum of the first, smallest, node.
+     *  @return datum of first node, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        Node<E> node = myHead.myNext;
+
+        return (node == null) ? null : node.myData;
+    }
+
+    /**
+     *  Method that gets the datum of the last, largest, node.
+     *  @return datum of last node, or null if the list is empty
+     */
+    public E getLast()
+    {
+        return (myTail == null) ? null : myTail.myData;
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        return mySize;
+    }
+
+    /**
+     *  Returns an iterator over the data in sorted order; it follows
+     *  the bottom chain only
+     *
+     *  @return an iterator positioned before the first node
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private Node<E> myNode = myHead.myNext;
+
+            @Override
+            public boolean hasNext()
+            {
+                return myNode != null;
+            }
+
+            @Override
+            public E next()
+            {
+                E datum;
+
+                if(myNode == null)
+                {
+                    throw new NoSuchElementException();
+                }
+                datum = myNode.myData;
+                myNode = myNode.myNext;
+                return datum;
+            }
+        };
+    }
+
+    /**
+     *  print the list in the same format as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        for(Node<E> node = myHead.myNext; node != null; node = node.myNext)
+        {
+            string.append(node.myData.toString()).append(" -> ");
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Finds the last node whose datum orders before datum, dropping
+     *  down one level each time the next node on a level is too far
+     *
+     *  @param datum the object being looked for
+     *
+     *  @return the node before the first node not less than datum,
+     *          which is the head if there is none
+     */
+    private Node<E> findPredecessor(E datum)
+    {
+        Node<E> node = myHead;
+
+        for(int i = myLevel - 1; i >= 0; i--)
+        {
+            while(node.next(i) != null && this.compare(node.next(i).myData, datum) < 0)
+            {
+                node = node.next(i);
+            }
+        }
+        return node;
+    }
+
+    /**
+     *  Unlinks a node from every level it is on
+     *
+     *  @param update the node before node on each level
+     *  @param node the node to be unlinked
+     */
+    private void unlink(Node<E>[] update, Node<E> node)
+    {
+        for(int i = 0; i < myLevel && update[i].next(i) == node; i++)
+        {
+            update[i].setNext(i, node.next(i));
+        }
+
+        if(myTail == node)
+        {
+            myTail = (update[0] == myHead) ? null : update[0];
+        }
+        while(myLevel > 1 && myHead.next(myLevel - 1) == null)
+        {
+            myLevel--;
+        }
+        mySize--;
+    }
+
+    /**
+     *  Picks the number of levels for a new node; each extra level is
+     *  given with probability one half
+     *
+     *  @return a level from 1 to MAX_LEVEL
+     */
+    private int randomLevel()
+    {
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(myRandom.nextInt()) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E first, E second)
+    {
+        if(myComparator == null)
+        {
+            return ((Comparable<? super E>) first).compareTo(second);
+        }
+        return myComparator.compare(first, second);
+    }
+
+    private static class Node<T>
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final T myData;
+        private Node<T> myNext;
+        private final Node<T>[] myExpress;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for a node with some object for its data and
+         *  room for a forward pointer on each of its levels.  The
+         *  pointer of the bottom chain is a field of its own, so a walk
+         *  in order reads it straight from the node; only the express
+         *  lanes above it are kept in an array
+         *
+         *  @param datum an object for the node's data
+         *  @param level the number of levels the node is on
+         */
+        @SuppressWarnings("unchecked")
+        public Node(T datum, int level)
+        {
+            myData = datum;
+            myNext = null;
+            myExpress = (level == 1) ? null : (Node<T>[]) new Node<?>[level - 1];
+        }
+
+        /**
+         *  @param level a level the node is on
+         *
+         *  @return the next node on that level
+         */
+        public Node<T> next(int level)
+        {
+            return (level == 0) ? myNext : myExpress[level - 1];
+        }
+
+        public void setNext(int level, Node<T> next)
+        {
+            if(level == 0)
+            {
+                myNext = next;
+            }
+            else
+            {
+                myExpress[level - 1] = next;
+            }
+        }
+    }
+}
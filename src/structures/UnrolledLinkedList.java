@@ -0,0 +1,625 @@
+package structures;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ *  An unrolled linked list offering the same methods as {@link LinkedList}.
+ *  Instead of one node per element, each node holds a small array of
+ *  up to {@link #NODE_CAPACITY} elements, so a scan follows far fewer
+ *  pointers and reads the elements of a node from consecutive memory.
+ *
+ *  A full node is split in two when an element is inserted into it, and
+ *  a node that falls below half capacity after a removal is merged with
+ *  the node that follows it whenever the two fit in one node.
+ *
+ *  Like {@link LinkedList}, elements are compared with equals and the
+ *  element inserted by insertBefore is entered directly following the
+ *  element it is positioned by.
+ */
+public class UnrolledLinkedList<E>
+{
+    /////////////////////////////
+    //         Properties      //
+    /////////////////////////////
+
+    /** Number of elements a node can hold before it is split. */
+    public static final int NODE_CAPACITY = 16;
+
+    private Node myHead;
+    private Node myTail;
+    private int mySize;
+
+    /////////////////////////////
+    //         Methods         //
+    /////////////////////////////
+
+    /**
+     *  Default constructor that creates an empty linked list
+     *
+     *  <pre>
+     *  pre:  the linked list is empty
+     *  post: the linked list is empty
+     *  </pre>
+     */
+    public UnrolledLinkedList()
+    {
+        myHead = null;
+        myTail = null;
+        mySize = 0;
+    }
+
+    /**
+     *  Constructor that creates a new linked list holding the
+     *  single object passed in
+     *
+     *  @param datum an object to be inserted at the head of the
+     *         linked list
+     */
+    public UnrolledLinkedList(E datum)
+    {
+        this();
+        this.addFirst(datum);
+    }
+
+    /**
+     *  Adds an element to the head of the linked list, creating a
+     *  new node when the first node is missing or full
+     *
+     *  <pre>
+     *  pre:  the linked list may be empty or contain one or
+     *        more elements
+     *  post: the linked list contains one more element that has
+     *        been added to the beginning of the list
+     *  </pre>
+     *
+     *  @param datum the object to be entered at the head of the list
+     */
+    public void addFirst(E datum)
+    {
+        if(myHead == null || myHead.isFull())
+        {
+            this.linkAfter(null, new Node());
+        }
+        myHead.insert(0, datum);
+        mySize++;
+    }
+
+    /**
+     *  Adds an element to the tail of the linked list, creating a
+     *  new node when the last node is missing or full
+     *
+     *  <pre>
+     *  pre:  the linked list may be empty or contain one or
+     *        more elements
+     *  post: the linked list contains one more element that has
+     *        been added to the end of the list
+     *  </pre>
+     *
+     *  @param datum the object to be entered at the tail of the list
+     */
+    public void addLast(E datum)
+    {
+        if(myTail == null || myTail.isFull())
+        {
+            this.linkAfter(myTail, new Node());
+        }
+        myTail.insert(myTail.myCount, datum);
+        mySize++;
+    }
+
+    /**
+     *  Deletes the first element equal to datum from the list if it
+     *  is there
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: if the element to be deleted is in the list, it no
+     *        longer exists in the list
+     *  </pre>
+     *
+     *  @param datum the object to be deleted from the list
+     *
+     *  @return boolean indicating whether or not the element
+     *          was deleted
+     */
+    public boolean remove(E datum)
+    {
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            int index = node.indexOf(datum);
+
+            if(index >= 0)
+            {
+                this.removeAt(node, index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  Deletes every element that satisfies the filter in a single
+     *  walk of the list, compacting each node in place and merging
+     *  it into the node before it when both fit in one node
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no element in the list is accepted by the filter;
+     *        the remaining elements keep their order
+     *  </pre>
+     *
+     *  @param filter the test an element must pass to be deleted
+     *
+     *  @return boolean indicating whether or not any element
+     *          was deleted
+     */
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        boolean removed = false;
+        Node node = myHead;
+
+        while(node != null)
+        {
+            Node nextNode = node.myNext;
+            int kept = 0;
+
+            for(int i = 0; i < node.myCount; i++)
+            {
+                E element = node.get(i);
+
+                if(filter.test(element))
+                {
+                    removed = true;
+                }
+                else
+                {
+                    node.myElements[kept++] = element;
+                }
+            }
+            for(int i = kept; i < node.myCount; i++)
+            {
+                node.myElements[i] = null;
+            }
+            mySize -= node.myCount - kept;
+            node.myCount = kept;
+
+            if(kept == 0)
+            {
+                this.unlink(node);
+            }
+            else if(node.myPrevious != null && node.myPrevious.myCount + kept <= NODE_CAPACITY)
+            {
+                Node previousNode = node.myPrevious;
+
+                System.arraycopy(node.myElements, 0, previousNode.myElements, previousNode.myCount, kept);
+                previousNode.myCount += kept;
+                this.unlink(node);
+            }
+            node = nextNode;
+        }
+        return removed;
+    }
+
+    /**
+     *  Deletes every element equal to one of the objects in the
+     *  collection; the collection is copied into a hash set first so
+     *  the list is walked only once
+     *
+     *  @param data the objects to be deleted from the list
+     *
+     *  @return boolean indicating whether or not any element
+     *          was deleted
+     */
+    public boolean removeAll(Collection<?> data)
+    {
+        final Set<Object> removeSet = new HashSet<Object>(data);
+
+        return this.removeIf(datum -> removeSet.contains(datum));
+    }
+
+    /**
+     *  Determine if an element exists in the list equal to the
+     *  datum passed in
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: list is unchanged
+     *  </pre>
+     *
+     *  @param datum the object to be found in the list
+     *
+     *  @return false if no element equal to datum is in the list,
+     *          or true if there is; like {@link LinkedList} an
+     *          empty list is considered to contain null
+     */
+    public boolean contains(E datum)
+    {
+        if(datum == null && myHead == null)
+        {
+            return true;
+        }
+        return this.indexOf(datum) >= 0;
+    }
+
+    /**
+     *  A new element is entered into the list directly following
+     *  the first element equal to beforeDatum, matching the
+     *  placement used by {@link LinkedList#insertBefore}
+     *
+     *  <pre>
+     *  pre:  the list may have 0 or more elements in it
+     *  post: if beforeDatum is not in the list, no change takes
+     *        place to the list; otherwise, datum is entered in
+     *        the appropriate place
+     *  </pre>
+     *
+     *  @param datum the object to be entered into the list
+     *  @param beforeDatum the object by which the new element
+     *         is to be entered
+     *
+     *  @return boolean designating if the element was or was not
+     *          entered
+     */
+    public boolean insertBefore(E datum, E beforeDatum)
+    {
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            int index = node.indexOf(beforeDatum);
+
+            if(index >= 0)
+            {
+                this.insertAt(node, index + 1, datum);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  Method to find the index of the first element equal to datum.
+     *
+     *  @param o the object we are looking for
+     *  @return the index of the element in the list, or -1 if it is not there
+     */
+    public int indexOf(E o)
+    {
+        int offset = 0;
+
+        if(o == null)
+        {
+            return -1;
+        }
+
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            int index = node.indexOf(o);
+
+            if(index >= 0)
+            {
+                return offset + index;
+            }
+            offset += node.myCount;
+        }
+        return -1;
+    }
+
+    /**
+     *  Method to remove the first element in the list.
+     *
+     *  @return the removed element, or null if the list is empty
+     */
+    public E removeFirst()
+    {
+        if(myHead == null)
+        {
+            return null;
+        }
+        return this.removeAt(myHead, 0);
+    }
+
+    /**
+     *  Method to remove the last element in the list.
+     *
+     *  @return the removed element, or null if the list is empty
+     */
+    public E removeLast()
+    {
+        if(myTail == null)
+        {
+            return null;
+        }
+        return this.removeAt(myTail, myTail.myCount - 1);
+    }
+
+    /**
+     *  Method to return the size of the list.
+     *
+     *  @return list size
+     */
+    public int size()
+    {
+        return mySize;
+    }
+
+    /**
+     *  Method that gets the first element in the list.
+     *  @return first element, or null if the list is empty
+     */
+    public E getFirst()
+    {
+        if(myHead == null)
+        {
+            return null;
+        }
+        return myHead.get(0);
+    }
+
+    /**
+     *  Method that gets the last element in the list.
+     *  @return last element, or null if the list is empty
+     */
+    public E getLast()
+    {
+        if(myTail == null)
+        {
+            return null;
+        }
+        return myTail.get(myTail.myCount - 1);
+    }
+
+    /**
+     *  Method that sets the element at the beginning of the list. If the list
+     *  is empty a new element is added, otherwise the first element is replaced.
+     *  @param o element to be placed at the beginning of the list
+     */
+    public void setFirst(E o)
+    {
+        if(myHead == null)
+        {
+            this.addFirst(o);
+        }
+        else
+        {
+            myHead.myElements[0] = o;
+        }
+    }
+
+    /**
+     *  print the list by converting the objects in the list
+     *  to their string representations, in the same format
+     *  as {@link LinkedList#toString}
+     *
+     *  <pre>
+     *  pre:  the list has 0 or more elements
+     *  post: no change to the list
+     *  </pre>
+     */
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("head ->");
+
+        for(Node node = myHead; node != null; node = node.myNext)
+        {
+            for(int i = 0; i < node.myCount; i++)
+            {
+                string.append(node.myElements[i].toString()).append(" -> ");
+            }
+        }
+        string.append("|||");
+        return string.toString();
+    }
+
+    /**
+     *  Enters datum at a position within a node, splitting the node
+     *  first if it is full
+     *
+     *  @param node the node to enter datum into
+     *  @param index the position within node, from 0 to its count
+     *  @param datum the object to be entered
+     */
+    private void insertAt(Node node, int index, E datum)
+    {
+        if(node.isFull())
+        {
+            Node upperHalf = new Node();
+            int half = NODE_CAPACITY / 2;
+
+            System.arraycopy(node.myElements, half, upperHalf.myElements, 0, NODE_CAPACITY - half);
+            for(int i = half; i < NODE_CAPACITY; i++)
+            {
+                node.myElements[i] = null;
+            }
+            upperHalf.myCount = NODE_CAPACITY - half;
+            node.myCount = half;
+            this.linkAfter(node, upperHalf);
+
+            if(index > half)
+            {
+                node = upperHalf;
+                index -= half;
+            }
+        }
+        node.insert(index, datum);
+        mySize++;
+    }
+
+    /**
+     *  Deletes the element at a position within a node; an emptied
+     *  node is unlinked and a node under half capacity is merged
+     *  with the node that follows it when both fit in one node
+     *
+     *  @param node the node holding the element
+     *  @param index the position of the element within node
+     *
+     *  @return the deleted element
+     */
+    private E removeAt(Node node, int index)
+    {
+        E datum = node.get(index);
+        Node nextNode = node.myNext;
+
+        node.delete(index);
+        mySize--;
+
+        if(node.myCount == 0)
+        {
+            this.unlink(node);
+        }
+        else if(node.myCount < NODE_CAPACITY / 2 && nextNode != null
+                && node.myCount + nextNode.myCount <= NODE_CAPACITY)
+        {
+            System.arraycopy(nextNode.myElements, 0, node.myElements, node.myCount, nextNode.myCount);
+            node.myCount += nextNode.myCount;
+            this.unlink(nextNode);
+        }
+        return datum;
+    }
+
+    /**
+     *  Links a node into the chain directly after another node
+     *
+     *  @param previousNode the node to link after, or null to make
+     *         node the new head
+     *  @param node the unlinked node to be entered
+     */
+    private void linkAfter(Node previousNode, Node node)
+    {
+        Node nextNode = (previousNode == null) ? myHead : previousNode.myNext;
+
+        node.myPrevious = previousNode;
+        node.myNext = nextNode;
+
+        if(previousNode == null)
+        {
+            myHead = node;
+        }
+        else
+        {
+            previousNode.myNext = node;
+        }
+
+        if(nextNode == null)
+        {
+            myTail = node;
+        }
+        else
+        {
+            nextNode.myPrevious = node;
+        }
+    }
+
+    /**
+     *  Unlinks a node from the chain, keeping head and tail up to date
+     *
+     *  @param node the node to be unlinked
+     */
+    private void unlink(Node node)
+    {
+        if(node.myPrevious == null)
+        {
+            myHead = node.myNext;
+        }
+        else
+        {
+            node.myPrevious.myNext = node.myNext;
+        }
+
+        if(node.myNext == null)
+        {
+            myTail = node.myPrevious;
+        }
+        else
+        {
+            node.myNext.myPrevious = node.myPrevious;
+        }
+
+        node.myNext = null;
+        node.myPrevious = null;
+    }
+
+    private class Node
+    {
+        ///////////////////////////////////
+        //           Properties          //
+        ///////////////////////////////////
+        private final Object[] myElements;
+        private int myCount;
+        private Node myNext;
+        private Node myPrevious;
+
+        ///////////////////////////////////
+        //             Methods           //
+        ///////////////////////////////////
+
+        /**
+         *  Constructor for an empty node that is not linked
+         *  to any other node
+         */
+        public Node()
+        {
+            myElements = new Object[NODE_CAPACITY];
+            myCount = 0;
+            myNext = null;
+            myPrevious = null;
+        }
+
+        public boolean isFull()
+        {
+            return myCount == NODE_CAPACITY;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index)
+        {
+            return (E) myElements[index];
+        }
+
+        /**
+         *  Finds the position of the first element equal to datum
+         *
+         *  @param datum the object to be found
+         *
+         *  @return the position within this node, or -1 if absent
+         */
+        public int indexOf(Object datum)
+        {
+            for(int i = 0; i < myCount; i++)
+            {
+                if(myElements[i].equals(datum))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         *  Enters datum at a position, shifting later elements up;
+         *  the node must not be full
+         *
+         *  @param index the position, from 0 to the count
+         *  @param datum the object to be entered
+         */
+        public void insert(int index, Object datum)
+        {
+            System.arraycopy(myElements, index, myElements, index + 1, myCount - index);
+            myElements[index] = datum;
+            myCount++;
+        }
+
+        /**
+         *  Deletes the element at a position, shifting later elements down
+         *
+         *  @param index the position of the element
+         */
+        public void delete(int index)
+        {
+            System.arraycopy(myElements, index + 1, myElements, index, myCount - index - 1);
+            myCount--;
+            myElements[myCount] = null;
+        }
+    }
+}
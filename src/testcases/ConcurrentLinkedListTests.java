@@ -0,0 +1,180 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the ConcurrentLinkedList class.
+ */
+
+public class ConcurrentLinkedListTests
+{
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 1000;
+    private static final int ROUNDS = 10;
+
+    private ConcurrentLinkedList<Integer> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp()
+    {
+        myLinkedList = new ConcurrentLinkedList<Integer>();
+    }
+
+    /**
+     * Checks that on a single thread the list keeps the same order as {@link LinkedList} would.
+     */
+    @Test
+    public void testIfSingleThreadOperations()
+    {
+        myLinkedList.addFirst(2);
+        myLinkedList.addFirst(1);
+        myLinkedList.addLast(4);
+        myLinkedList.insertBefore(3, 2);
+
+        // The list is now 1 -> 2 -> 3 -> 4
+        myCheck = (myLinkedList.toString().equals("head ->1 -> 2 -> 3 -> 4 -> |||") &&
+                   myLinkedList.contains(3) && !myLinkedList.contains(5) && !myLinkedList.insertBefore(9, 5) &&
+                   myLinkedList.remove(1) && !myLinkedList.remove(1) && myLinkedList.getFirst() == 2 &&
+                   myLinkedList.size() == 3 && !myLinkedList.remove(null) && !myLinkedList.contains(null));
+
+        assertTrue("The concurrent list should keep its nodes in order.", myCheck);
+    }
+
+    /**
+     * Checks that many threads adding, inserting and removing at once neither lose nor duplicate nodes.
+     * Every thread owns its own range of numbers: it adds them all, inserts a marker after each even
+     * number and then removes the odd numbers again.
+     */
+    @Test(timeout = 30000)
+    public void testIfConcurrentWritersKeepListConsistent() throws InterruptedException
+    {
+        final CountDownLatch myStart = new CountDownLatch(1);
+        List<Thread> myThreads = new ArrayList<Thread>();
+
+        for(int t = 0; t < THREADS; t++)
+        {
+            final int myBase = t * PER_THREAD;
+            Thread myThread = new Thread(() ->
+            {
+                try
+                {
+                    myStart.await();
+                }
+                catch(InterruptedException e)
+                {
+                    return;
+                }
+                for(int i = myBase; i < myBase + PER_THREAD; i++)
+                {
+                    if(i % 4 == 0)
+                    {
+                        myLinkedList.addLast(i);
+                    }
+                    else
+                    {
+                        myLinkedList.addFirst(i);
+                    }
+                }
+                for(int i = myBase; i < myBase + PER_THREAD; i += 2)
+                {
+                    myLinkedList.insertBefore(-i - 1, i);
+                }
+                for(int i = myBase + 1; i < myBase + PER_THREAD; i += 2)
+                {
+                    myLinkedList.remove(i);
+                }
+            });
+            myThreads.add(myThread);
+            myThread.start();
+        }
+        myStart.countDown();
+        for(Thread myThread : myThreads)
+        {
+            myThread.join();
+        }
+
+        myCheck = (myLinkedList.size() == THREADS * PER_THREAD);
+        for(int i = 0; i < THREADS * PER_THREAD; i += 97)
+        {
+            boolean myEven = (i % 2 == 0);
+
+            myCheck = (myCheck && myLinkedList.contains(i) == myEven && myLinkedList.contains(-i - 1) == myEven);
+        }
+
+        assertTrue("Every even number and its marker should be in the list and every odd number removed.", myCheck);
+    }
+
+    /**
+     * Checks that when several threads race to remove the same data, each element present is
+     * reported removed by exactly one call and the size ends at zero. Multiples of three are
+     * entered twice, so a datum may be removed more than once.
+     */
+    @Test(timeout = 30000)
+    public void testIfRacingRemoversEachClaimOneNode() throws InterruptedException
+    {
+        for(int myRound = 0; myRound < ROUNDS; myRound++)
+        {
+            final CountDownLatch myStart = new CountDownLatch(1);
+            final AtomicInteger myRemoved = new AtomicInteger();
+            List<Thread> myThreads = new ArrayList<Thread>();
+            int myPresent = 0;
+
+            for(int i = 0; i < PER_THREAD; i++)
+            {
+                myLinkedList.addLast(i);
+                myPresent++;
+                if(i % 3 == 0)
+                {
+                    myLinkedList.addFirst(i);
+                    myPresent++;
+                }
+            }
+
+            for(int t = 0; t < THREADS; t++)
+            {
+                Thread myThread = new Thread(() ->
+                {
+                    try
+                    {
+                        myStart.await();
+                    }
+                    catch(InterruptedException e)
+                    {
+                        return;
+                    }
+                    for(int i = 0; i < PER_THREAD; i++)
+                    {
+                        for(int j = 0; j < 2; j++)
+                        {
+                            if(myLinkedList.remove(i))
+                            {
+                                myRemoved.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+                myThreads.add(myThread);
+                myThread.start();
+            }
+            myStart.countDown();
+            for(Thread myThread : myThreads)
+            {
+                myThread.join();
+            }
+
+            assertTrue("Every node should have been removed by exactly one call.",
+                       myRemoved.get() == myPresent && myLinkedList.size() == 0 && myLinkedList.getFirst() == null);
+        }
+    }
+}
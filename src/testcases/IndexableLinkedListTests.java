@@ -0,0 +1,149 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the IndexableLinkedList class.
+ */
+
+public class IndexableLinkedListTests
+{
+    private IndexableLinkedList<String> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp()
+    {
+        myLinkedList = new IndexableLinkedList<String>();
+    }
+
+    /**
+     * Checks that the list methods shared with {@link LinkedList} place the data in the same order.
+     */
+    @Test
+    public void testIfMatchesLinkedList()
+    {
+        LinkedList<String> myExpected = new LinkedList<String>();
+
+        for(String myName : Arrays.asList("Bailey", "Mimi", "Sam"))
+        {
+            myLinkedList.addLast(myName);
+            myExpected.addLast(myName);
+        }
+        myLinkedList.addFirst("Kim");
+        myExpected.addFirst("Kim");
+        myLinkedList.insertBefore("Josh", "Bailey");
+        myExpected.insertBefore("Josh", "Bailey");
+        myLinkedList.remove("Mimi");
+        myExpected.remove("Mimi");
+
+        myCheck = (myLinkedList.toString().equals(myExpected.toString()) &&
+                   myLinkedList.indexOf("Sam") == myExpected.indexOf("Sam") &&
+                   myLinkedList.getFirst() == "Kim" && myLinkedList.getLast() == "Sam" &&
+                   myLinkedList.removeLast() == "Sam" && myLinkedList.getLast() == "Josh" &&
+                   myLinkedList.removeFirst() == "Kim" && myLinkedList.size() == 2);
+
+        assertTrue("The list should keep the same order as a LinkedList.", myCheck);
+    }
+
+    /**
+     * Checks that positions outside the list are rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIfPositionPastEndIsRejected()
+    {
+        myLinkedList.addLast("Bailey");
+
+        myLinkedList.remove(1);
+    }
+
+    /**
+     * Checks a long series of random positional additions, removals and replacements against an
+     * {@link ArrayList}, which exercises the link widths on every level.
+     */
+    @Test
+    public void testIfMatchesArrayList()
+    {
+        IndexableLinkedList<Integer> myIntegerList = new IndexableLinkedList<Integer>();
+        List<Integer> myExpected = new ArrayList<Integer>();
+        Random myRandom = new Random(5);
+
+        myCheck = true;
+        for(int i = 0; i < 20000; i++)
+        {
+            int myChoice = myRandom.nextInt(10);
+
+            if(myChoice < 5 || myExpected.isEmpty())
+            {
+                int myIndex = myRandom.nextInt(myExpected.size() + 1);
+                myIntegerList.add(myIndex, i);
+                myExpected.add(myIndex, i);
+            }
+            else if(myChoice < 8)
+            {
+                int myIndex = myRandom.nextInt(myExpected.size());
+                myCheck = (myCheck && myIntegerList.remove(myIndex).equals(myExpected.remove(myIndex)));
+            }
+            else
+            {
+                int myIndex = myRandom.nextInt(myExpected.size());
+                myCheck = (myCheck && myIntegerList.set(myIndex, -i).equals(myExpected.set(myIndex, -i)) &&
+                           myIntegerList.get(myIndex) == -i);
+            }
+        }
+
+        List<Integer> myActual = new ArrayList<Integer>();
+        for(Integer myValue : myIntegerList)
+        {
+            myActual.add(myValue);
+        }
+        for(int i = 0; i < myExpected.size(); i++)
+        {
+            myCheck = (myCheck && myIntegerList.get(i).equals(myExpected.get(i)));
+        }
+
+        myCheck = (myCheck && myActual.equals(myExpected) && myIntegerList.size() == myExpected.size() &&
+                   myIntegerList.getLast().equals(myExpected.get(myExpected.size() - 1)));
+
+        assertTrue("The list should hold the same data as an array list.", myCheck);
+    }
+
+    /**
+     * Checks that random positional access to a large list does not walk it. Two hundred thousand random
+     * additions and lookups would take minutes if each one walked the list.
+     */
+    @Test(timeout = 5000)
+    public void testIfPositionalCostIsLogarithmic()
+    {
+        IndexableLinkedList<Integer> myIntegerList = new IndexableLinkedList<Integer>();
+        Random myRandom = new Random(3);
+
+        for(int i = 0; i < 200000; i++)
+        {
+            myIntegerList.add(myRandom.nextInt(i + 1), i);
+        }
+
+        myCheck = true;
+        for(int i = 0; i < 200000; i++)
+        {
+            int myIndex = myRandom.nextInt(myIntegerList.size());
+            myCheck = (myCheck && myIntegerList.get(myIndex) != null);
+        }
+        for(int i = 0; i < 100000; i++)
+        {
+            myIntegerList.remove(myRandom.nextInt(myIntegerList.size()));
+        }
+
+        assertTrue("Every position should have been reached.", myCheck && myIntegerList.size() == 100000);
+    }
+}
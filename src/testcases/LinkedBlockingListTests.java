@@ -0,0 +1,152 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the LinkedBlockingList class.
+ */
+
+public class LinkedBlockingListTests
+{
+    private LinkedBlockingList<String> myBoundedList;
+
+    @Before
+    public void setUp()
+    {
+        myBoundedList = new LinkedBlockingList<String>(3);
+    }
+
+    /**
+     * Checks that elements come out in the order they went in and that a full list refuses more.
+     */
+    @Test
+    public void testIfBoundedListIsFirstInFirstOut()
+    {
+        myBoundedList.addLast("Bailey");
+        assertTrue("Mimi and Sam should fit.", myBoundedList.offer("Mimi") && myBoundedList.offer("Sam"));
+        assertFalse("Kim should not fit.", myBoundedList.offer("Kim"));
+        assertTrue("The list should be full.",
+                   myBoundedList.remainingCapacity() == 0 && myBoundedList.size() == 3
+                   && myBoundedList.toString().equals("head ->Bailey -> Mimi -> Sam -> |||"));
+
+        assertTrue("Bailey should come out first.",
+                   myBoundedList.getFirst().equals("Bailey") && myBoundedList.removeFirst().equals("Bailey")
+                   && myBoundedList.poll().equals("Mimi") && myBoundedList.removeFirst().equals("Sam"));
+        assertTrue("An empty list should return null.",
+                   myBoundedList.removeFirst() == null && myBoundedList.getFirst() == null);
+    }
+
+    /**
+     * Checks that a full list rejects addLast.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testIfAddLastToFullListFails()
+    {
+        myBoundedList.addAll(Arrays.asList("Bailey", "Mimi", "Sam"));
+        myBoundedList.addLast("Kim");
+    }
+
+    /**
+     * Checks that timed offer and poll give up once their time runs out.
+     */
+    @Test(timeout = 5000)
+    public void testIfTimedCallsGiveUp() throws InterruptedException
+    {
+        myBoundedList.addAll(Arrays.asList("Bailey", "Mimi", "Sam"));
+        assertFalse("Offering to a full list should time out.",
+                    myBoundedList.offer("Kim", 20, TimeUnit.MILLISECONDS));
+        myBoundedList.drainTo(new ArrayList<String>());
+        assertTrue("Polling an empty list should time out.",
+                   myBoundedList.poll(20, TimeUnit.MILLISECONDS) == null);
+    }
+
+    /**
+     * Checks that addAll enters all of its elements or none, and that drainTo moves at most max
+     * elements in order.
+     */
+    @Test
+    public void testIfBatchesMoveInOrder()
+    {
+        List<String> myDrained = new ArrayList<String>();
+
+        myBoundedList.addAll(Arrays.asList("Bailey", "Mimi"));
+        try
+        {
+            myBoundedList.addAll(Arrays.asList("Sam", "Kim"));
+            fail("Two more should not fit.");
+        }
+        catch(IllegalStateException e)
+        {
+            assertTrue("Nothing should have been entered.", myBoundedList.size() == 2);
+        }
+
+        assertTrue("One element should be drained.", myBoundedList.drainTo(myDrained, 1) == 1);
+        myBoundedList.addAll(Arrays.asList("Sam", "Kim"));
+        assertTrue("The rest should be drained.", myBoundedList.drainTo(myDrained) == 3);
+        assertTrue("Elements should be drained in order.",
+                   myDrained.equals(Arrays.asList("Bailey", "Mimi", "Sam", "Kim")) && myBoundedList.size() == 0);
+    }
+
+    /**
+     * Checks that take waits for a producer, and put and putAll wait for a consumer, with no
+     * element lost or reordered on the way.
+     */
+    @Test(timeout = 5000)
+    public void testIfProducerAndConsumerHandOff() throws InterruptedException
+    {
+        LinkedBlockingList<Integer> myQueue = new LinkedBlockingList<Integer>(64);
+        List<Integer> myBatch = new ArrayList<Integer>();
+        List<Integer> myReceived = new ArrayList<Integer>();
+        Thread myProducer;
+
+        for(int i = 0; i < 5000; i++)
+        {
+            myBatch.add(i);
+        }
+        myProducer = new Thread(() ->
+        {
+            try
+            {
+                myQueue.putAll(myBatch);
+                for(int i = 5000; i < 10000; i++)
+                {
+                    myQueue.put(i);
+                }
+            }
+            catch(InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+        myProducer.start();
+
+        while(myReceived.size() < 10000)
+        {
+            myReceived.add(myQueue.take());
+            myQueue.drainTo(myReceived, 1000);
+        }
+        myProducer.join();
+
+        assertInOrder(myReceived);
+        assertTrue("The queue should be empty.", myQueue.size() == 0 && myQueue.remainingCapacity() == 64);
+    }
+
+    private static void assertInOrder(List<Integer> received)
+    {
+        for(int i = 0; i < received.size(); i++)
+        {
+            assertTrue("Element " + i + " should arrive in order.", received.get(i) == i);
+        }
+        assertTrue("Every element should arrive.", received.size() == 10000);
+    }
+}
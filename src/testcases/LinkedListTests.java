@@ -1,6 +1,25 @@
 package testcases;
 
 import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import structures.*;
 
 import org.junit.Before;
@@ -17,6 +36,24 @@ import org.junit.Test;
 
 public class LinkedListTests 
 {
+    private static final RecordCodec<Long> LONG_CODEC = new RecordCodec<Long>()
+    {
+        public int recordSize()
+        {
+            return 8;
+        }
+        
+        public void write(Long datum, ByteBuffer buffer, int offset)
+        {
+            buffer.putLong(offset, datum);
+        }
+        
+        public Long read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getLong(offset);
+        }
+    };
+    
     private LinkedList<String> myLinkedList;
     private boolean myCheck;
 
@@ -936,6 +973,1144 @@ public class LinkedListTests
         
         // Assert true that the linked list was able to set the first node as null.
         assertTrue("You should be able to set the first node as null.", myCheck); 
-    } 
+    }
+    
+    /**
+     * Test to make sure that adding to the tail of an empty linked list only counts
+     * the new node once in the {@link LinkedList#size} of the list.
+     */
+    @Test
+    public void testIfCorrectSizeAfterAddLastEmptyList()
+    {
+        // Add/create node at the tail of an empty linked list
+        myLinkedList.addLast("Bailey");
+        
+        // myCheck evaluates to true if the list has exactly one node which is both the first and last.
+        myCheck = (myLinkedList.size() == 1 && myLinkedList.getFirst() == "Bailey" && myLinkedList.getLast() == "Bailey");
+        
+        assertTrue("Adding a single node to the tail of an empty list should give a size of 1.", myCheck);
+    }
+    
+    /**
+     * Test to make sure the {@link LinkedList#getLast} method follows the tail as nodes are
+     * added to the tail, inserted after the tail and removed from the tail.
+     */
+    @Test
+    public void testIfGetLastFollowsTail()
+    {
+        // Add/create nodes at the tail of the linked list
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Mimi");
+        
+        myCheck = (myLinkedList.getLast() == "Mimi");
+        
+        // Inserting after the current tail should make the new node the tail.
+        myLinkedList.insertBefore("Sam", "Mimi");
+        
+        myCheck = (myCheck && myLinkedList.getLast() == "Sam");
+        
+        // Removing the tail by datum should make the node before it the tail.
+        myLinkedList.remove("Sam");
+        
+        myCheck = (myCheck && myLinkedList.getLast() == "Mimi" && myLinkedList.size() == 2);
+        
+        assertTrue("The last node should always be the tail of the linked list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure that {@link LinkedList#removeLast} removes the tail node rather than the
+     * first node holding the same datum when the list contains duplicates.
+     */
+    @Test
+    public void testIfRemoveLastDuplicateNode()
+    {
+        // Add/create nodes to the linked list, the first and last node hold the same datum.
+        myLinkedList.addLast("Mimi");
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Mimi");
+        
+        myLinkedList.removeLast();
+        
+        // myCheck evaluates to true if the first "Mimi" is still the head and "Bailey" is now the tail.
+        myCheck = (myLinkedList.getFirst() == "Mimi" && myLinkedList.getLast() == "Bailey");
+        
+        assertTrue("The tail node should have been removed rather than the head.", myCheck);
+    }
+    
+    /**
+     * Test to make sure a doubly linked list behaves like a singly linked list when nodes are
+     * added, inserted and removed from either end.
+     */
+    @Test
+    public void testIfDoublyLinkedListOperations()
+    {
+        LinkedList<String> myDoublyLinkedList = LinkedList.doublyLinked();
+        
+        // Add/create nodes to the linked list
+        myDoublyLinkedList.addLast("Mimi");
+        myDoublyLinkedList.addFirst("Sam");
+        myDoublyLinkedList.addLast("Bailey");
+        myDoublyLinkedList.insertBefore("Josh", "Mimi");
+        
+        // The list is now Sam -> Mimi -> Josh -> Bailey
+        myCheck = (myDoublyLinkedList.isDoublyLinked() && 
+                   myDoublyLinkedList.indexOf("Josh") == 2 &&
+                   myDoublyLinkedList.size() == 4);
+        
+        myCheck = (myCheck &&
+                   myDoublyLinkedList.removeLast() == "Bailey" && myDoublyLinkedList.getLast() == "Josh" &&
+                   myDoublyLinkedList.remove("Mimi") && myDoublyLinkedList.removeLast() == "Josh" &&
+                   myDoublyLinkedList.getLast() == "Sam" && myDoublyLinkedList.removeFirst() == "Sam" &&
+                   myDoublyLinkedList.getLast() == null && myDoublyLinkedList.size() == 0);
+        
+        assertTrue("A doubly linked list should keep its nodes and tail in order.", myCheck);
+    }
+    
+    /**
+     * Test to make sure that {@link LinkedList#addLast} and {@link LinkedList#getLast} do not
+     * walk the list. A million appends finish well within the time limit when each call costs
+     * the same regardless of size, whereas a walk on every call would take hours.
+     */
+    @Test(timeout = 5000)
+    public void testIfAddLastCostIsFlat()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        
+        myCheck = true;
+        for(int i = 0; i < 1000000; i++)
+        {
+            myIntegerList.addLast(i);
+            myCheck = (myCheck && myIntegerList.getLast() == i);
+        }
+        
+        assertTrue("A million nodes should have been added to the tail.", myCheck && myIntegerList.size() == 1000000);
+    }
+    
+    /**
+     * Test to make sure that {@link LinkedList#removeLast} does not walk a doubly linked list.
+     * Emptying a list of a million nodes from the tail finishes well within the time limit when
+     * each call costs the same regardless of size.
+     */
+    @Test(timeout = 5000)
+    public void testIfRemoveLastCostIsFlat()
+    {
+        LinkedList<Integer> myIntegerList = LinkedList.doublyLinked();
+        
+        for(int i = 0; i < 1000000; i++)
+        {
+            myIntegerList.addLast(i);
+        }
+        
+        myCheck = true;
+        for(int i = 999999; i >= 0; i--)
+        {
+            myCheck = (myCheck && myIntegerList.removeLast() == i);
+        }
+        
+        assertTrue("Every node should have been removed from the tail in order.", myCheck && myIntegerList.size() == 0);
+    }
+    
+    /**
+     * Test to make sure {@link LinkedList#removeIf} removes every node that matches the filter,
+     * including the head and tail, and leaves the rest of the list in order.
+     */
+    @Test
+    public void testIfRemoveIfMatchingNodes()
+    {
+        // Add/create nodes to the linked list
+        myLinkedList.addLast("Mimi");
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Matthew");
+        myLinkedList.addLast("Sam");
+        myLinkedList.addLast("Mike");
+        
+        // Remove every node whose datum starts with "M".
+        myCheck = myLinkedList.removeIf(datum -> datum.startsWith("M"));
+        
+        // myCheck evaluates to true if only "Bailey" and "Sam" are left, in order.
+        myCheck = (myCheck && myLinkedList.size() == 2 &&
+                   myLinkedList.getFirst() == "Bailey" && myLinkedList.getLast() == "Sam" &&
+                   myLinkedList.indexOf("Sam") == 1);
+        
+        assertTrue("Every node matching the filter should have been removed.", myCheck);
+    }
+    
+    /**
+     * Test to make sure {@link LinkedList#removeIf} returns false and leaves the list unchanged
+     * when no node matches the filter.
+     */
+    @Test
+    public void testIfRemoveIfNoMatchingNodes()
+    {
+        // Add/create nodes to the linked list
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Sam");
+        
+        myCheck = myLinkedList.removeIf(datum -> datum.isEmpty());
+        
+        assertFalse("No node should have been removed.", myCheck || myLinkedList.size() != 2);
+    }
+    
+    /**
+     * Test to make sure {@link LinkedList#removeAll} removes every node holding one of the given
+     * data, duplicates included, in a doubly linked list.
+     */
+    @Test
+    public void testIfRemoveAllNodes()
+    {
+        LinkedList<String> myDoublyLinkedList = LinkedList.doublyLinked();
+        
+        // Add/create nodes to the linked list
+        myDoublyLinkedList.addLast("Mimi");
+        myDoublyLinkedList.addLast("Bailey");
+        myDoublyLinkedList.addLast("Mimi");
+        myDoublyLinkedList.addLast("Sam");
+        myDoublyLinkedList.addLast("Kim");
+        
+        myCheck = myDoublyLinkedList.removeAll(Arrays.asList("Mimi", "Kim", "Plante"));
+        
+        // myCheck evaluates to true if only "Bailey" and "Sam" are left and the tail can still be removed.
+        myCheck = (myCheck && myDoublyLinkedList.size() == 2 &&
+                   !myDoublyLinkedList.contains("Mimi") && !myDoublyLinkedList.contains("Kim") &&
+                   myDoublyLinkedList.removeLast() == "Sam" && myDoublyLinkedList.getLast() == "Bailey");
+        
+        assertTrue("Every node holding one of the given data should have been removed.", myCheck);
+    }
+    
+    /**
+     * Test to make sure {@link LinkedList#removeAll} finishes in a single walk of the list. Removing
+     * half of a list of a hundred thousand nodes would take minutes if every removal walked the list.
+     */
+    @Test(timeout = 5000)
+    public void testIfRemoveAllCostIsLinear()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        List<Integer> myEvenNumbers = new ArrayList<Integer>();
+        
+        for(int i = 0; i < 100000; i++)
+        {
+            myIntegerList.addLast(i);
+            if(i % 2 == 0)
+            {
+                myEvenNumbers.add(i);
+            }
+        }
+        
+        myCheck = (myIntegerList.removeAll(myEvenNumbers) && myIntegerList.size() == 50000 &&
+                   myIntegerList.getFirst() == 1 && myIntegerList.getLast() == 99999);
+        
+        assertTrue("Every even number should have been removed from the list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure the list can be walked with a for-each loop from the head to the tail.
+     */
+    @Test
+    public void testIfIteratesInOrder()
+    {
+        // Add/create nodes to the linked list
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Mimi");
+        myLinkedList.addLast("Sam");
+        
+        StringBuilder myNames = new StringBuilder();
+        for(String myName : myLinkedList)
+        {
+            myNames.append(myName).append(' ');
+        }
+        
+        assertTrue("The iterator should return every node from head to tail.", myNames.toString().equals("Bailey Mimi Sam "));
+    }
+    
+    /**
+     * Test to make sure the {@link ListIterator} can remove, add and set nodes at the cursor and
+     * keeps the head, tail and size of the list up to date.
+     */
+    @Test
+    public void testIfListIteratorEditsInPlace()
+    {
+        // Add/create nodes to the linked list
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Mimi");
+        myLinkedList.addLast("Sam");
+        myLinkedList.addLast("Kim");
+        
+        ListIterator<String> myIterator = myLinkedList.listIterator();
+        while(myIterator.hasNext())
+        {
+            String myName = myIterator.next();
+            
+            if(myName == "Bailey" || myName == "Kim")
+            {
+                myIterator.remove();
+            }
+            else if(myName == "Mimi")
+            {
+                myIterator.set("Matthew");
+                myIterator.add("Josh");
+            }
+        }
+        myIterator.add("Emily");
+        
+        // The list is now Matthew -> Josh -> Sam -> Emily
+        myCheck = (myLinkedList.toString().equals("head ->Matthew -> Josh -> Sam -> Emily -> |||") &&
+                   myLinkedList.size() == 4 && myLinkedList.getFirst() == "Matthew" &&
+                   myLinkedList.getLast() == "Emily" && myIterator.nextIndex() == 4);
+        
+        assertTrue("The list iterator should have edited the list at the cursor.", myCheck);
+    }
+    
+    /**
+     * Test to make sure the {@link ListIterator} can move backwards and remove nodes returned by
+     * previous in both a singly and a doubly linked list.
+     */
+    @Test
+    public void testIfListIteratorMovesBackwards()
+    {
+        LinkedList<String> myDoublyLinkedList = LinkedList.doublyLinked();
+        myCheck = true;
+        
+        for(LinkedList<String> myList : Arrays.asList(myLinkedList, myDoublyLinkedList))
+        {
+            myList.addLast("Bailey");
+            myList.addLast("Mimi");
+            myList.addLast("Sam");
+            
+            ListIterator<String> myIterator = myList.listIterator();
+            while(myIterator.hasNext())
+            {
+                myIterator.next();
+            }
+            
+            myCheck = (myCheck && myIterator.previous() == "Sam" && myIterator.previous() == "Mimi");
+            myIterator.remove();
+            
+            myCheck = (myCheck && myIterator.previousIndex() == 0 && myIterator.previous() == "Bailey" &&
+                       !myIterator.hasPrevious() && myIterator.next() == "Bailey" && myIterator.next() == "Sam" &&
+                       myList.size() == 2 && myList.getLast() == "Sam" && myList.removeLast() == "Sam");
+        }
+        
+        assertTrue("The list iterator should move backwards and remove the node it returned.", myCheck);
+    }
+    
+    /**
+     * Test to make sure an iterator fails fast when the list is changed other than through the iterator.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIfIteratorFailsFast()
+    {
+        // Add/create nodes to the linked list
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Mimi");
+        
+        Iterator<String> myIterator = myLinkedList.iterator();
+        myIterator.next();
+        
+        myLinkedList.addFirst("Sam");
+        myIterator.next();
+    }
+    
+    /**
+     * Test to make sure removing every node through an iterator does not walk the list for each removal.
+     * Emptying a list of a million nodes this way would take hours if each removal walked the list.
+     */
+    @Test(timeout = 5000)
+    public void testIfIteratorRemoveCostIsFlat()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        
+        for(int i = 0; i < 1000000; i++)
+        {
+            myIntegerList.addLast(i);
+        }
+        
+        Iterator<Integer> myIterator = myIntegerList.iterator();
+        while(myIterator.hasNext())
+        {
+            if(myIterator.next() % 2 == 1)
+            {
+                myIterator.remove();
+            }
+        }
+        
+        assertTrue("Every odd number should have been removed.", myIntegerList.size() == 500000 && myIntegerList.getLast() == 999998);
+    }
+    
+    /**
+     * Test to make sure {@link LinkedList#stream} returns the data from head to tail.
+     */
+    @Test
+    public void testIfStreamInOrder()
+    {
+        // Add/create nodes to the linked list
+        myLinkedList.addLast("Bailey");
+        myLinkedList.addLast("Mimi");
+        myLinkedList.addLast("Sam");
+        
+        myCheck = myLinkedList.stream().collect(Collectors.toList()).equals(Arrays.asList("Bailey", "Mimi", "Sam"));
+        
+        assertTrue("The stream should return every node from head to tail.", myCheck);
+    }
+    
+    /**
+     * Test to make sure a parallel stream over a large list sees every node once and keeps the order.
+     */
+    @Test
+    public void testIfParallelStreamSeesEveryNode()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        
+        for(int i = 0; i < 200000; i++)
+        {
+            myIntegerList.addLast(i);
+        }
+        
+        List<Integer> myEvenNumbers = myIntegerList.parallelStream().filter(i -> i % 2 == 0).collect(Collectors.toList());
+        
+        myCheck = (myIntegerList.parallelStream().mapToLong(i -> i).sum() == 199999L * 200000L / 2 &&
+                   myEvenNumbers.size() == 100000 && myEvenNumbers.get(99999) == 199998 &&
+                   myEvenNumbers.get(5000) == 10000);
+        
+        assertTrue("A parallel stream should see every node in order.", myCheck);
+    }
+    
+    /**
+     * Test to make sure the spliterator reports its size and splits off batches that, together with
+     * what is left, cover every node exactly once.
+     */
+    @Test
+    public void testIfSpliteratorSplitsIntoBatches()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        
+        for(int i = 0; i < 5000; i++)
+        {
+            myIntegerList.addLast(i);
+        }
+        
+        Spliterator<Integer> mySpliterator = myIntegerList.spliterator();
+        myCheck = (mySpliterator.hasCharacteristics(Spliterator.SIZED) &&
+                   mySpliterator.hasCharacteristics(Spliterator.ORDERED) &&
+                   mySpliterator.estimateSize() == 5000);
+        
+        Spliterator<Integer> myFirstBatch  = mySpliterator.trySplit();
+        Spliterator<Integer> mySecondBatch = mySpliterator.trySplit();
+        
+        // The batches grow by 1024 nodes each time.
+        myCheck = (myCheck && myFirstBatch.estimateSize() == 1024 && mySecondBatch.estimateSize() == 2048 &&
+                   mySpliterator.estimateSize() == 5000 - 1024 - 2048);
+        
+        List<Integer> mySeen = new ArrayList<Integer>();
+        myFirstBatch.forEachRemaining(mySeen::add);
+        mySecondBatch.forEachRemaining(mySeen::add);
+        mySpliterator.forEachRemaining(mySeen::add);
+        
+        for(int i = 0; i < 5000; i++)
+        {
+            myCheck = (myCheck && mySeen.get(i) == i);
+        }
+        
+        assertTrue("The batches should cover every node in order.", myCheck && mySeen.size() == 5000);
+    }
+    
+    /**
+     * Test to make sure an indexed list gives the same answers as a plain list, including when it holds
+     * duplicates: remove and indexOf must still act on the first node holding the datum.
+     */
+    @Test
+    public void testIfIndexedListMatchesPlainList()
+    {
+        LinkedList<String> myIndexedList = LinkedList.indexed();
+        
+        for(LinkedList<String> myList : Arrays.asList(myLinkedList, myIndexedList))
+        {
+            myList.addLast("Mimi");
+            myList.addLast("Bailey");
+            myList.addFirst("Sam");
+            myList.addLast("Mimi");
+            myList.insertBefore("Mimi", "Sam");
+            myList.insertBefore("Kim", "Bailey");
+            myList.remove("Mimi");
+        }
+        
+        // Both lists are now Sam -> Mimi -> Bailey -> Kim -> Mimi
+        myCheck = (myIndexedList.isIndexed() && myIndexedList.toString().equals(myLinkedList.toString()) &&
+                   myIndexedList.indexOf("Mimi") == 1 && myIndexedList.indexOf("Kim") == 3 &&
+                   myIndexedList.contains("Sam") && !myIndexedList.contains("Pug") &&
+                   myIndexedList.remove("Mimi") && myIndexedList.indexOf("Mimi") == 3 &&
+                   myIndexedList.removeLast() == "Mimi" && !myIndexedList.contains("Mimi") &&
+                   myIndexedList.size() == 3);
+        
+        assertTrue("The indexed list should behave the same as a plain list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure the index follows data changed through setFirst, the list iterator and removeIf.
+     */
+    @Test
+    public void testIfIndexFollowsChangedData()
+    {
+        LinkedList<String> myIndexedList = LinkedList.indexed();
+        
+        myIndexedList.addLast("Bailey");
+        myIndexedList.addLast("Mimi");
+        myIndexedList.addLast("Sam");
+        
+        myIndexedList.setFirst("Bob");
+        ListIterator<String> myIterator = myIndexedList.listIterator();
+        myIterator.next();
+        myIterator.next();
+        myIterator.set("Kim");
+        myIterator.add("Josh");
+        myIndexedList.removeIf(myName -> myName == "Sam");
+        
+        // The list is now Bob -> Kim -> Josh
+        myCheck = (!myIndexedList.contains("Bailey") && !myIndexedList.contains("Mimi") &&
+                   !myIndexedList.contains("Sam") && myIndexedList.indexOf("Bob") == 0 &&
+                   myIndexedList.indexOf("Kim") == 1 && myIndexedList.indexOf("Josh") == 2 &&
+                   myIndexedList.getLast() == "Josh");
+        
+        assertTrue("The index should follow every change to the data in the list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure contains and remove do not walk an indexed list. A hundred thousand lookups and
+     * removals from the tail end of a list of a hundred thousand nodes would take minutes with a walk each.
+     */
+    @Test(timeout = 5000)
+    public void testIfIndexedLookupCostIsFlat()
+    {
+        LinkedList<Integer> myIntegerList = LinkedList.indexed();
+        
+        for(int i = 0; i < 100000; i++)
+        {
+            myIntegerList.addLast(i);
+        }
+        
+        myCheck = true;
+        for(int i = 99999; i >= 0; i--)
+        {
+            myCheck = (myCheck && myIntegerList.contains(i) && myIntegerList.remove(i) && !myIntegerList.contains(i));
+        }
+        
+        assertTrue("Every node should have been found and removed.", myCheck && myIntegerList.size() == 0);
+    }
+    
+    /**
+     * Test to make sure get, set and add by position work at the ends and in the middle of the list,
+     * for every kind of list, and that the finger is not trusted after other changes to the list.
+     */
+    @Test
+    public void testIfPositionalAccessWorks()
+    {
+        myCheck = true;
+        for(LinkedList<String> myList : Arrays.asList(myLinkedList, LinkedList.<String>doublyLinked(),
+                                                      LinkedList.<String>indexed()))
+        {
+            myList.add(0, "Mimi");
+            myList.add(0, "Bailey");
+            myList.add(2, "Sam");
+            myList.add(1, "Bob");
+            
+            // The list is now Bailey -> Bob -> Mimi -> Sam
+            String myOld = myList.set(2, "Kim");
+            myList.get(3);
+            myList.removeFirst();
+            myList.addFirst("Josh");
+            
+            // The list is now Josh -> Bob -> Kim -> Sam
+            myCheck = (myCheck && myOld == "Mimi" && myList.get(0) == "Josh" && myList.get(1) == "Bob" &&
+                       myList.get(2) == "Kim" && myList.get(3) == "Sam" && myList.get(1) == "Bob" &&
+                       myList.size() == 4 && myList.indexOf("Kim") == 2 && !myList.contains("Mimi") &&
+                       myList.getLast() == "Sam");
+        }
+        
+        assertTrue("Positional access should match the order of the list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure positions outside the list are rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIfPositionPastEndIsRejected()
+    {
+        myLinkedList.addLast("Bailey");
+        
+        myLinkedList.get(1);
+    }
+    
+    /**
+     * Test to make sure reading and filling a list by increasing position does not walk from the head
+     * every time. A hundred thousand nodes would take minutes with a walk for every call.
+     */
+    @Test(timeout = 5000)
+    public void testIfSequentialPositionalAccessCostIsFlat()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        LinkedList<Integer> myDoublyLinkedList = LinkedList.doublyLinked();
+        
+        for(int i = 0; i < 100000; i++)
+        {
+            myIntegerList.addLast(2 * i);
+            myDoublyLinkedList.addLast(i);
+        }
+        
+        myCheck = true;
+        for(int i = 0; i < 100000; i++)
+        {
+            myIntegerList.add(2 * i + 1, 2 * i + 1);
+            myCheck = (myCheck && myIntegerList.get(2 * i + 1) == 2 * i + 1);
+        }
+        for(int i = 99999; i >= 0; i--)
+        {
+            myCheck = (myCheck && myDoublyLinkedList.set(i, -i) == i && myDoublyLinkedList.get(i) == -i);
+        }
+        
+        assertTrue("Every position should hold the expected value.", myCheck && myIntegerList.size() == 200000);
+    }
+    
+    /**
+     * Test to make sure bulk additions keep the order of the data at both ends of the list, for every kind
+     * of list.
+     */
+    @Test
+    public void testIfBulkAdditionsKeepOrder()
+    {
+        myCheck = true;
+        for(LinkedList<String> myList : Arrays.asList(myLinkedList, LinkedList.<String>doublyLinked(),
+                                                      LinkedList.<String>indexed()))
+        {
+            myList.addLast("Bailey");
+            myList.addAll(new String[] {"Mimi", "Sam"});
+            myList.addAllFirst(Arrays.asList("Kim", "Bailey"));
+            myList.addAll(new ArrayList<String>());
+            
+            // The list is now Kim -> Bailey -> Bailey -> Mimi -> Sam
+            myCheck = (myCheck && myList.toString().equals("head ->Kim -> Bailey -> Bailey -> Mimi -> Sam -> |||") &&
+                       myList.size() == 5 && myList.getLast() == "Sam" && myList.indexOf("Bailey") == 1 &&
+                       myList.removeLast() == "Sam" && myList.remove("Bailey") && myList.indexOf("Bailey") == 1 &&
+                       myList.get(2) == "Mimi");
+        }
+        
+        assertTrue("Bulk additions should keep the order of the data.", myCheck);
+    }
+    
+    /**
+     * Test to make sure concat and splice move every node and leave the other list empty and usable, both
+     * when nodes are relinked and when the kinds of list differ and the data are copied.
+     */
+    @Test
+    public void testIfSpliceMovesNodes()
+    {
+        LinkedList<String> myDoublyLinkedList = LinkedList.doublyLinked();
+        LinkedList<String> myOtherList = new LinkedList<String>();
+        
+        myLinkedList.addAll(new String[] {"Bailey", "Sam"});
+        myOtherList.addAll(new String[] {"Mimi", "Kim"});
+        myLinkedList.splice(1, myOtherList);
+        myOtherList.addLast("Josh");
+        myLinkedList.concat(myOtherList);
+        
+        myDoublyLinkedList.addAll(new String[] {"Bob", "Pug"});
+        myLinkedList.splice(0, myDoublyLinkedList);
+        
+        // The list is now Bob -> Pug -> Bailey -> Mimi -> Kim -> Sam -> Josh
+        myCheck = (myLinkedList.toString().equals("head ->Bob -> Pug -> Bailey -> Mimi -> Kim -> Sam -> Josh -> |||") &&
+                   myLinkedList.size() == 7 && myLinkedList.getLast() == "Josh" &&
+                   myLinkedList.removeLast() == "Josh" && myLinkedList.getLast() == "Sam" &&
+                   myOtherList.size() == 0 && myOtherList.getFirst() == null &&
+                   myDoublyLinkedList.size() == 0 && myDoublyLinkedList.removeLast() == null);
+        
+        myOtherList.addLast("Bailey");
+        myDoublyLinkedList.addLast("Mimi");
+        
+        assertTrue("Every node should have moved to the list spliced into.", myCheck &&
+                   myOtherList.toString().equals("head ->Bailey -> |||") && myDoublyLinkedList.getLast() == "Mimi");
+    }
+    
+    /**
+     * Test to make sure joining lists does not walk them. Joining ten thousand lists of a hundred nodes
+     * each onto a growing list would take far longer with a walk of either list for every join.
+     */
+    @Test(timeout = 5000)
+    public void testIfConcatCostIsFlat()
+    {
+        LinkedList<Integer> myMergedList = LinkedList.doublyLinked();
+        Integer[] myShard = new Integer[100];
+        
+        for(int i = 0; i < myShard.length; i++)
+        {
+            myShard[i] = i;
+        }
+        for(int i = 0; i < 10000; i++)
+        {
+            LinkedList<Integer> myShardList = LinkedList.doublyLinked();
+            myShardList.addAll(myShard);
+            myMergedList.concat(myShardList);
+        }
+        
+        assertTrue("Every node should have been joined.", myMergedList.size() == 1000000 &&
+                   myMergedList.removeLast() == 99 && myMergedList.getFirst() == 0);
+    }
+    
+    /**
+     * Test to make sure a sub list reads and changes the nodes of the list itself, and that its end moves
+     * along with nodes added or removed through it.
+     */
+    @Test
+    public void testIfSubListIsBackedByList()
+    {
+        myLinkedList.addAll(new String[] {"Bailey", "Mimi", "Sam", "Kim", "Josh"});
+        List<String> myView = myLinkedList.subList(1, 4);
+        
+        myCheck = (myView.toString().equals("[Mimi, Sam, Kim]") && myView.get(2) == "Kim" &&
+                   myView.indexOf("Sam") == 1 && !myView.contains("Josh"));
+        
+        myView.set(0, "Bob");
+        myView.remove("Sam");
+        myView.add("Pug");
+        myView.subList(0, 1).clear();
+        
+        // The list is now Bailey -> Kim -> Pug -> Josh
+        myCheck = (myCheck && myView.equals(Arrays.asList("Kim", "Pug")) && myLinkedList.size() == 4 &&
+                   myLinkedList.toString().equals("head ->Bailey -> Kim -> Pug -> Josh -> |||"));
+        
+        assertTrue("Changes through the view should be made to the list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure a sub list cannot be used after the list is changed other than through it.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIfSubListFailsAfterOutsideChange()
+    {
+        myLinkedList.addAll(new String[] {"Bailey", "Mimi", "Sam"});
+        List<String> myView = myLinkedList.subList(0, 2);
+        
+        myLinkedList.removeLast();
+        myView.get(0);
+    }
+    
+    /**
+     * Test to make sure splitting a list at every kind of position leaves the first part behind and moves
+     * the rest into a list of the same kind, with an indexed list keeping both indexes right.
+     */
+    @Test
+    public void testIfSplitAtMovesTail()
+    {
+        myCheck = true;
+        for(LinkedList<String> myList : Arrays.asList(myLinkedList, LinkedList.<String>doublyLinked(),
+                                                      LinkedList.<String>indexed()))
+        {
+            myList.addAll(new String[] {"Bailey", "Mimi", "Sam", "Mimi", "Kim"});
+            
+            LinkedList<String> myRest = myList.splitAt(2);
+            LinkedList<String> myEmpty = myRest.splitAt(3);
+            LinkedList<String> myAll = myRest.splitAt(0);
+            
+            myCheck = (myCheck && myList.toString().equals("head ->Bailey -> Mimi -> |||") &&
+                       myAll.toString().equals("head ->Sam -> Mimi -> Kim -> |||") &&
+                       myRest.size() == 0 && myEmpty.size() == 0 && myList.getLast() == "Mimi" &&
+                       myAll.isIndexed() == myList.isIndexed() && myAll.isDoublyLinked() == myList.isDoublyLinked() &&
+                       myList.remove("Mimi") && !myList.contains("Mimi") && myAll.indexOf("Mimi") == 1 &&
+                       myAll.remove("Mimi") && !myAll.contains("Mimi") && myAll.removeLast() == "Kim" &&
+                       myAll.getLast() == "Sam");
+        }
+        
+        assertTrue("The nodes from the split on should have moved to the new list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure sorting orders the nodes, keeps nodes that compare equal in their order and
+     * leaves the tail, the back pointers and the index right, for every kind of list.
+     */
+    @Test
+    public void testIfSortIsStable()
+    {
+        myCheck = true;
+        for(LinkedList<String> myList : Arrays.asList(myLinkedList, LinkedList.<String>doublyLinked(),
+                                                      LinkedList.<String>indexed()))
+        {
+            myList.addAll(new String[] {"Mimi", "Sam", "Bailey", "Kim", "Josh", "Sam", "Bob"});
+            myList.sort(Comparator.comparingInt(String::length));
+            
+            myCheck = (myCheck && myList.toString().equals("head ->Sam -> Kim -> Sam -> Bob -> Mimi -> Josh -> Bailey -> |||") &&
+                       myList.indexOf("Sam") == 0 && myList.remove("Sam") && myList.indexOf("Sam") == 1 &&
+                       myList.removeLast() == "Bailey" && myList.getLast() == "Josh");
+            
+            myList.sort(null);
+            myCheck = (myCheck && myList.toString().equals("head ->Bob -> Josh -> Kim -> Mimi -> Sam -> |||") &&
+                       myList.indexOf("Mimi") == 3 && myList.removeLast() == "Sam" && myList.getLast() == "Mimi");
+        }
+        
+        assertTrue("The nodes should be in order after sorting.", myCheck);
+    }
+    
+    /**
+     * Test to make sure a parallel sort of a list long enough to be split gives the same order as a stable
+     * sort of an array list.
+     */
+    @Test
+    public void testIfParallelSortMatchesArrayList()
+    {
+        LinkedList<Integer> myIntegerList = LinkedList.doublyLinked();
+        List<Integer> myExpected = new ArrayList<Integer>();
+        Random myRandom = new Random(7);
+        
+        for(int i = 0; i < 100000; i++)
+        {
+            Integer myValue = myRandom.nextInt(1000);
+            myIntegerList.addLast(myValue);
+            myExpected.add(myValue);
+        }
+        
+        Comparator<Integer> myByTens = Comparator.comparingInt(myValue -> myValue / 10);
+        myIntegerList.parallelSort(myByTens);
+        myExpected.sort(myByTens);
+        
+        List<Integer> myActual = new ArrayList<Integer>();
+        for(Integer myValue : myIntegerList)
+        {
+            myActual.add(myValue);
+        }
+        
+        assertTrue("The parallel sort should give the same order as a stable sort.",
+                   myActual.equals(myExpected) && myIntegerList.removeLast().equals(myExpected.get(99999)));
+    }
+    
+    /**
+     * Test to make sure writing the list gives the text of toString, and that the first and last data
+     * are kept when the middle is left out.
+     */
+    @Test
+    public void testIfWriteToMatchesToString() throws IOException
+    {
+        StringWriter myWhole = new StringWriter();
+        StringBuilder myTruncated = new StringBuilder();
+        StringBuilder myTailOnly = new StringBuilder();
+        StringBuilder myShort = new StringBuilder();
+        
+        myLinkedList.addAll(new String[] {"Bailey", "Mimi", "Sam", "Kim", "Josh"});
+        myLinkedList.writeTo(myWhole);
+        myLinkedList.writeTo(myTruncated, 2, 1);
+        myLinkedList.writeTo(myTailOnly, 0, 2);
+        myLinkedList.writeTo(myShort, 3, 3);
+        
+        myCheck = (myWhole.toString().equals(myLinkedList.toString()) &&
+                   myTruncated.toString().equals("head ->Bailey -> Mimi -> ... 2 more -> Josh -> |||") &&
+                   myTailOnly.toString().equals("head ->... 3 more -> Kim -> Josh -> |||") &&
+                   myShort.toString().equals(myLinkedList.toString()));
+        
+        assertTrue("The written text should match the list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure printing a long list takes linear time. Building the text of two hundred thousand
+     * nodes by repeated string concatenation would take minutes.
+     */
+    @Test(timeout = 5000)
+    public void testIfToStringCostIsLinear()
+    {
+        LinkedList<Integer> myIntegerList = new LinkedList<Integer>();
+        
+        for(int i = 0; i < 200000; i++)
+        {
+            myIntegerList.addLast(i % 10);
+        }
+        
+        assertTrue("Every node should have been printed.", myIntegerList.toString().length() == 7 + 200000 * 5 + 3);
+    }
+    
+    /**
+     * Test to make sure a snapshot read back holds the same data in the same order, both plain and
+     * compressed, with enough data to fill more than one block.
+     */
+    @Test
+    public void testIfSnapshotRoundTrips() throws IOException
+    {
+        LinkedList<Long> myLongList = new LinkedList<Long>();
+        File myFile = File.createTempFile("snapshot", ".bin");
+        
+        for(long i = 0; i < 600000; i++)
+        {
+            myLongList.addLast(i * 31 % 1000);
+        }
+        
+        myCheck = true;
+        try
+        {
+            for(boolean myCompressed : new boolean[] {false, true})
+            {
+                try(FileChannel myChannel = FileChannel.open(myFile.toPath(), StandardOpenOption.WRITE,
+                                                             StandardOpenOption.TRUNCATE_EXISTING))
+                {
+                    myLongList.writeTo(myChannel, LONG_CODEC, myCompressed);
+                }
+                try(FileChannel myChannel = FileChannel.open(myFile.toPath(), StandardOpenOption.READ))
+                {
+                    LinkedList<Long> myCopy = LinkedList.readFrom(myChannel, LONG_CODEC);
+                    Iterator<Long> myExpected = myLongList.iterator();
+                    
+                    for(Long myValue : myCopy)
+                    {
+                        myCheck = (myCheck && myValue.equals(myExpected.next()));
+                    }
+                    myCheck = (myCheck && !myExpected.hasNext() && myCopy.size() == 600000 &&
+                               myCopy.getLast().equals(myLongList.getLast()));
+                }
+            }
+        }
+        finally
+        {
+            myFile.delete();
+        }
+        
+        assertTrue("The snapshot should hold the same data as the list.", myCheck);
+    }
+    
+    /**
+     * Test to make sure a snapshot cut short is reported rather than read as a shorter list.
+     */
+    @Test(expected = EOFException.class)
+    public void testIfTruncatedSnapshotIsRejected() throws IOException
+    {
+        File myFile = File.createTempFile("snapshot", ".bin");
+        
+        try
+        {
+            try(FileChannel myChannel = FileChannel.open(myFile.toPath(), StandardOpenOption.WRITE))
+            {
+                LinkedList<Long> myLongList = new LinkedList<Long>();
+                myLongList.addAll(new Long[] {1L, 2L, 3L});
+                myLongList.writeTo(myChannel, LONG_CODEC);
+                myChannel.truncate(myChannel.size() - 4);
+            }
+            try(FileChannel myChannel = FileChannel.open(myFile.toPath(), StandardOpenOption.READ))
+            {
+                LinkedList.readFrom(myChannel, LONG_CODEC);
+            }
+        }
+        finally
+        {
+            myFile.delete();
+        }
+    }
+    /**
+     * Test to make sure a move-to-front list puts each node it finds at the head and leaves the
+     * order of the others alone.
+     */
+    @Test
+    public void testIfMoveToFrontMovesFoundNodeToHead()
+    {
+        LinkedList<String> myOrganizingList = LinkedList.selfOrganizing(LinkedList.Reordering.MOVE_TO_FRONT);
+        
+        myOrganizingList.addAll(new String[] {"Bailey", "Mimi", "Sam", "Kim"});
+        assertTrue("Sam should be found.", myOrganizingList.contains("Sam"));
+        assertFalse("Josh should not be found.", myOrganizingList.contains("Josh"));
+        assertTrue("Sam should have moved to the head.",
+                   myOrganizingList.toString().equals("head ->Sam -> Bailey -> Mimi -> Kim -> |||"));
+        
+        myOrganizingList.contains("Kim");
+        assertTrue("Kim should have moved to the head and become reachable from the tail.",
+                   myOrganizingList.toString().equals("head ->Kim -> Sam -> Bailey -> Mimi -> |||")
+                   && myOrganizingList.getLast().equals("Mimi") && myOrganizingList.size() == 4);
+    }
+    
+    /**
+     * Test to make sure a transposing list moves each node it finds one place toward the head.
+     */
+    @Test
+    public void testIfTransposeSwapsFoundNodeWithPrevious()
+    {
+        LinkedList<String> myOrganizingList = LinkedList.selfOrganizing(LinkedList.Reordering.TRANSPOSE);
+        
+        myOrganizingList.addAll(new String[] {"Bailey", "Mimi", "Sam", "Kim"});
+        myOrganizingList.contains("Kim");
+        assertTrue("Kim should have swapped with Sam.",
+                   myOrganizingList.toString().equals("head ->Bailey -> Mimi -> Kim -> Sam -> |||")
+                   && myOrganizingList.getLast().equals("Sam"));
+        
+        myOrganizingList.contains("Mimi");
+        myOrganizingList.contains("Bailey");
+        assertTrue("Mimi and then Bailey should each have swapped to the head.",
+                   myOrganizingList.toString().equals("head ->Bailey -> Mimi -> Kim -> Sam -> |||"));
+    }
+    
+    /**
+     * Test to make sure a counting list keeps its nodes in order of how often each was found, and
+     * that the order survives a split.
+     */
+    @Test
+    public void testIfCountOrdersByLookups()
+    {
+        LinkedList<String> myOrganizingList = LinkedList.selfOrganizing(LinkedList.Reordering.COUNT);
+        LinkedList<String> myTailList;
+        
+        myOrganizingList.addAll(new String[] {"Bailey", "Mimi", "Sam", "Kim"});
+        myOrganizingList.contains("Sam");
+        myOrganizingList.contains("Kim");
+        myOrganizingList.contains("Kim");
+        assertTrue("Kim should lead, followed by Sam.",
+                   myOrganizingList.toString().equals("head ->Kim -> Sam -> Bailey -> Mimi -> |||"));
+        
+        myOrganizingList.contains("Mimi");
+        assertTrue("Mimi should have moved ahead of Bailey but not of Sam.",
+                   myOrganizingList.toString().equals("head ->Kim -> Sam -> Mimi -> Bailey -> |||"));
+        
+        myTailList = myOrganizingList.splitAt(2);
+        myTailList.contains("Bailey");
+        myTailList.contains("Bailey");
+        assertTrue("The split off list should keep counting.",
+                   myTailList.getReordering() == LinkedList.Reordering.COUNT
+                   && myTailList.toString().equals("head ->Bailey -> Mimi -> |||"));
+    }
+    
+    /**
+     * Test to make sure repeated lookups of a few data make a move-to-front list walk far fewer
+     * nodes than a plain one.
+     */
+    @Test(timeout = 5000)
+    public void testIfSelfOrganizingShortensWalks()
+    {
+        LinkedList<Integer> myPlainList = new LinkedList<Integer>();
+        LinkedList<Integer> myOrganizingList = LinkedList.selfOrganizing(LinkedList.Reordering.MOVE_TO_FRONT);
+        
+        for(int i = 0; i < 10000; i++)
+        {
+            myPlainList.addLast(i);
+            myOrganizingList.addLast(i);
+        }
+        myPlainList.enableMetrics();
+        myOrganizingList.enableMetrics();
+        for(int i = 0; i < 10000; i++)
+        {
+            myPlainList.contains(9990 + i % 10);
+            myOrganizingList.contains(9990 + i % 10);
+        }
+        
+        assertTrue("The plain list should walk to the end every time.",
+                   myPlainList.getMetrics().getMeanTraversalLength() > 9990);
+        assertTrue("The move-to-front list should find the data near its head.",
+                   myOrganizingList.getMetrics().getMeanTraversalLength() < 20);
+        assertTrue("No data should have been lost.", myOrganizingList.size() == 10000);
+    }
+    /**
+     * Test to make sure a filtered list answers lookups the same as a plain one while data come
+     * and go through every kind of change.
+     */
+    @Test
+    public void testIfFilterNeverHidesData()
+    {
+        LinkedList<Integer> myFilteredList = new LinkedList<Integer>();
+        LinkedList<Integer> myOtherList = new LinkedList<Integer>();
+        ListIterator<Integer> myIterator;
+        
+        myFilteredList.addAll(new Integer[] {1, 2, 3});
+        myFilteredList.enableFilter();
+        myFilteredList.addFirst(0);
+        myFilteredList.addLast(4);
+        myFilteredList.insertBefore(5, 2);
+        myFilteredList.set(0, 10);
+        myOtherList.addAll(new Integer[] {20, 21});
+        myFilteredList.concat(myOtherList);
+        myIterator = myFilteredList.listIterator();
+        myIterator.next();
+        myIterator.add(30);
+        
+        myCheck = myFilteredList.isFiltered();
+        for(int i : new int[] {10, 30, 1, 2, 5, 3, 4, 20, 21})
+        {
+            myCheck = myCheck && myFilteredList.contains(i);
+        }
+        assertTrue("Every datum entered should be found.", myCheck);
+        assertFalse("A replaced datum should not be found.", myFilteredList.contains(0));
+        
+        assertTrue("Removing a datum should succeed.", myFilteredList.remove(Integer.valueOf(5)));
+        assertFalse("A removed datum should not be found.", myFilteredList.contains(5));
+        myOtherList = myFilteredList.splitAt(6);
+        assertFalse("Data split off should not be found.", myFilteredList.contains(20));
+        assertTrue("Data kept should still be found.", myFilteredList.contains(4) && myFilteredList.indexOf(4) == 5);
+    }
+    
+    /**
+     * Test to make sure lookups of absent data are answered by the filter without walking the
+     * list, even after the list has outgrown the filter it started with.
+     */
+    @Test(timeout = 5000)
+    public void testIfFilterSkipsWalksForAbsentData()
+    {
+        LinkedList<Integer> myFilteredList = new LinkedList<Integer>();
+        ListMetrics myMetrics;
+        int myFound = 0;
+        
+        myFilteredList.enableFilter();
+        for(int i = 0; i < 20000; i++)
+        {
+            myFilteredList.addLast(2 * i);
+        }
+        myMetrics = myFilteredList.enableMetrics();
+        for(int i = 0; i < 20000; i++)
+        {
+            if(myFilteredList.contains(2 * i + 1))
+            {
+                myFound++;
+            }
+        }
+        
+        assertTrue("No odd number should be found.", myFound == 0);
+        assertTrue("Only the few false positives should have walked the list.",
+                   myMetrics.getTraversals() < 20000 / 20);
+        assertTrue("Every even number should still be found.",
+                   myFilteredList.contains(0) && myFilteredList.contains(39998));
+    }
+    
+    /**
+     * Test to make sure a filter that lets through every absent datum, because all the data share
+     * one hash code, keeps being rebuilt without ever hiding a datum that is there.
+     */
+    @Test(timeout = 5000)
+    public void testIfDegradedFilterStaysCorrect()
+    {
+        LinkedList<Object> myFilteredList = new LinkedList<Object>();
+        
+        myFilteredList.enableFilter();
+        for(int i = 0; i < 200; i++)
+        {
+            myFilteredList.addLast(new CollidingKey(i));
+        }
+        for(int i = 0; i < 5000; i++)
+        {
+            assertFalse("An absent key should not be found.", myFilteredList.contains(new CollidingKey(200 + i)));
+        }
+        for(int i = 0; i < 200; i++)
+        {
+            assertTrue("A present key should be found.", myFilteredList.contains(new CollidingKey(i)));
+        }
+    }
+    
+    /**
+     * A key whose instances all hash alike, so no filter can tell them apart.
+     */
+    private static final class CollidingKey
+    {
+        private final int myValue;
+        
+        CollidingKey(int value)
+        {
+            myValue = value;
+        }
+        
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).myValue == myValue;
+        }
+        
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
     
 }
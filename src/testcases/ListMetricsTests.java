@@ -0,0 +1,155 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the ListMetrics class.
+ */
+
+public class ListMetricsTests
+{
+    private LinkedList<String> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp()
+    {
+        myLinkedList = new LinkedList<String>();
+    }
+
+    /**
+     * Checks that nothing is collected until metrics are enabled, and that calls are then counted per
+     * operation.
+     */
+    @Test
+    public void testIfCallsAreCounted()
+    {
+        myLinkedList.addLast("Bailey");
+        myCheck = (myLinkedList.getMetrics() == null);
+
+        ListMetrics myMetrics = myLinkedList.enableMetrics();
+        myLinkedList.addLast("Mimi");
+        myLinkedList.addFirst("Sam");
+        myLinkedList.contains("Mimi");
+        myLinkedList.contains("Kim");
+        myLinkedList.remove("Bailey");
+        myLinkedList.get(1);
+
+        Map<String, Long> myCounts = myMetrics.getCallCounts();
+        myCheck = (myCheck && myLinkedList.enableMetrics() == myMetrics &&
+                   myMetrics.getCallCount(ListMetrics.Operation.ADD_LAST) == 1 &&
+                   myCounts.get("ADD_FIRST") == 1 && myCounts.get("CONTAINS") == 2 &&
+                   myCounts.get("REMOVE") == 1 && myCounts.get("GET") == 1 && myCounts.get("SET") == 0 &&
+                   myMetrics.getLatencyPercentileNanos(ListMetrics.Operation.CONTAINS, 99) > 0 &&
+                   myMetrics.getLatencyPercentileNanos(ListMetrics.Operation.SET, 50) == 0);
+
+        myLinkedList.disableMetrics();
+        myLinkedList.contains("Mimi");
+
+        assertTrue("Calls should be counted only while metrics are enabled.", myCheck &&
+                   myLinkedList.getMetrics() == null && myMetrics.getCallCount(ListMetrics.Operation.CONTAINS) == 2);
+    }
+
+    /**
+     * Checks that the bulk, end and printing operations are counted too, and that an operation done on
+     * behalf of another is not counted twice.
+     */
+    @Test
+    public void testIfEveryOperationIsCounted() throws IOException
+    {
+        ListMetrics myMetrics = myLinkedList.enableMetrics();
+        LinkedList<String> myOtherList = new LinkedList<String>();
+
+        myLinkedList.addAll(new String[] {"Bailey", "Mimi"});
+        myOtherList.addLast("Sam");
+        myLinkedList.concat(myOtherList);
+        myLinkedList.removeAll(Arrays.asList("Mimi"));
+        myLinkedList.removeFirst();
+        myLinkedList.setFirst("Kim");
+        myLinkedList.getLast();
+        myLinkedList.sort(null);
+        myLinkedList.writeTo(new StringBuilder());
+        myLinkedList.toString();
+
+        Map<String, Long> myCounts = myMetrics.getCallCounts();
+        myCheck = (myCounts.get("ADD_ALL") == 1 && myCounts.get("CONCAT") == 1 && myCounts.get("SPLICE") == 0 &&
+                   myCounts.get("REMOVE_ALL") == 1 && myCounts.get("REMOVE_IF") == 0 &&
+                   myCounts.get("REMOVE_FIRST") == 1 && myCounts.get("GET_FIRST") == 0 &&
+                   myCounts.get("SET_FIRST") == 1 && myCounts.get("ADD_FIRST") == 0 &&
+                   myCounts.get("GET_LAST") == 1 && myCounts.get("SORT") == 1 &&
+                   myCounts.get("WRITE_TO") == 1 && myCounts.get("TO_STRING") == 1);
+
+        assertTrue("Every operation should be counted once per call.", myCheck &&
+                   myCounts.size() == ListMetrics.Operation.values().length);
+    }
+
+    /**
+     * Checks that walks of the list record the number of nodes they visit.
+     */
+    @Test
+    public void testIfTraversalLengthsAreRecorded()
+    {
+        ListMetrics myMetrics = myLinkedList.enableMetrics();
+
+        for(int i = 0; i < 100; i++)
+        {
+            myLinkedList.addLast("Node" + i);
+        }
+        myLinkedList.contains("Node0");
+        myLinkedList.contains("Node99");
+        myLinkedList.contains("Pug");
+        myLinkedList.removeLast();
+
+        long[] myHistogram = myMetrics.getTraversalHistogram();
+        myCheck = (myMetrics.getTraversals() == 4 && myMetrics.getMaxTraversalLength() == 100 &&
+                   myHistogram[1] == 1 && myHistogram[7] == 3 &&
+                   myMetrics.getMeanTraversalLength() == (1 + 100 + 100 + 99) / 4.0 &&
+                   myMetrics.getTraversalPercentile(50) == 127);
+
+        myMetrics.reset();
+
+        assertTrue("Every walk should record the nodes it visited.", myCheck && myMetrics.getTraversals() == 0 &&
+                   myMetrics.getCallCount(ListMetrics.Operation.ADD_LAST) == 0);
+    }
+
+    /**
+     * Checks that registered metrics can be read over JMX.
+     */
+    @Test
+    public void testIfMetricsAreExposedOverJmx() throws JMException
+    {
+        MBeanServer myServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName myName = new ObjectName("structures:type=LinkedList,name=\"orders\"");
+        ListMetrics myMetrics = myLinkedList.enableMetrics();
+
+        myMetrics.register("orders");
+        try
+        {
+            myLinkedList.addLast("Bailey");
+            myLinkedList.contains("Mimi");
+
+            myCheck = ((Long) myServer.getAttribute(myName, "Traversals") == 1 &&
+                       ((Map<?, ?>) myServer.getAttribute(myName, "CallCounts")).get("ADD_LAST").equals(1L));
+        }
+        finally
+        {
+            myMetrics.unregister();
+        }
+
+        assertTrue("The metrics should be readable over JMX.", myCheck && !myServer.isRegistered(myName));
+    }
+}
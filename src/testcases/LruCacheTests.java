@@ -0,0 +1,139 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the LruCache class.
+ */
+
+public class LruCacheTests
+{
+    private LruCache<String, Integer> myCache;
+    private List<String> myEvicted;
+
+    @Before
+    public void setUp()
+    {
+        myCache = new LruCache<String, Integer>(3);
+        myEvicted = new ArrayList<String>();
+        myCache.addEvictionListener((key, value) -> myEvicted.add(key + "=" + value));
+    }
+
+    /**
+     * Checks that the least recently used entry is the one evicted, that get and touch make an
+     * entry recently used, and that peek does not.
+     */
+    @Test
+    public void testIfLeastRecentlyUsedIsEvicted()
+    {
+        myCache.put("Bailey", 1);
+        myCache.put("Mimi", 2);
+        myCache.put("Sam", 3);
+        myCache.get("Bailey");
+        myCache.put("Kim", 4);
+        assertTrue("Mimi should have been evicted.", myEvicted.equals(Arrays.asList("Mimi=2")));
+
+        myCache.touch("Sam");
+        myCache.peek("Bailey");
+        myCache.put("Josh", 5);
+        assertTrue("Bailey should have been evicted next.", myEvicted.equals(Arrays.asList("Mimi=2", "Bailey=1")));
+        assertTrue("The cache should list its entries most recent first.",
+                   myCache.toString().equals("head ->Josh=5 -> Sam=3 -> Kim=4 -> |||") && myCache.size() == 3);
+    }
+
+    /**
+     * Checks that replacing or removing an entry does not count as an eviction and keeps the
+     * cache at the right size.
+     */
+    @Test
+    public void testIfReplaceAndRemoveAreNotEvictions()
+    {
+        myCache.put("Bailey", 1);
+        myCache.put("Mimi", 2);
+
+        assertTrue("Replacing should return the old value.", myCache.put("Bailey", 10) == 1);
+        assertTrue("Removing should return the value.", myCache.remove("Mimi") == 2);
+        assertTrue("Removing a missing key should return null.", myCache.remove("Mimi") == null);
+        assertTrue("No entry should have been evicted.", myEvicted.isEmpty() && myCache.getEvictionCount() == 0);
+        assertTrue("Only Bailey should remain.",
+                   myCache.size() == 1 && myCache.weight() == 1 && myCache.get("Bailey") == 10
+                   && !myCache.containsKey("Mimi"));
+    }
+
+    /**
+     * Checks the hit, miss and eviction counters.
+     */
+    @Test
+    public void testIfCountersAreKept()
+    {
+        for(int i = 0; i < 5; i++)
+        {
+            myCache.put("key" + i, i);
+        }
+        myCache.get("key4");
+        myCache.get("key3");
+        myCache.get("key0");
+
+        assertTrue("Two hits, one miss and two evictions should be counted.",
+                   myCache.getHitCount() == 2 && myCache.getMissCount() == 1 && myCache.getEvictionCount() == 2);
+        assertEquals("The hit rate should be two thirds.", 2.0 / 3, myCache.getHitRate(), 1e-9);
+
+        myCache.resetCounters();
+        assertTrue("The counters should be back to zero.",
+                   myCache.getHitCount() == 0 && myCache.getMissCount() == 0 && myCache.getEvictionCount() == 0);
+    }
+
+    /**
+     * Checks that a cache bounded by weight evicts as many entries as needed to fit a heavy one,
+     * and evicts an entry heavier than the whole bound straight away.
+     */
+    @Test
+    public void testIfWeightBoundsTheCache()
+    {
+        LruCache<String, String> myWeighedCache = new LruCache<String, String>(10, (key, value) -> value.length());
+        List<String> myWeighedEvicted = new ArrayList<String>();
+
+        myWeighedCache.addEvictionListener((key, value) -> myWeighedEvicted.add(key));
+        myWeighedCache.put("a", "xxx");
+        myWeighedCache.put("b", "xxx");
+        myWeighedCache.put("c", "xxx");
+        myWeighedCache.put("d", "xxxxxx");
+
+        assertTrue("a and b should have made room for d.",
+                   myWeighedEvicted.equals(Arrays.asList("a", "b")) && myWeighedCache.weight() == 9);
+
+        myWeighedCache.put("e", "xxxxxxxxxxx");
+        assertTrue("Everything should be evicted, e last.",
+                   myWeighedEvicted.equals(Arrays.asList("a", "b", "c", "d", "e")) && myWeighedCache.size() == 0
+                   && myWeighedCache.weight() == 0);
+    }
+
+    /**
+     * Checks that hits cost the same however large the cache is.
+     */
+    @Test(timeout = 5000)
+    public void testIfHitsTakeConstantTime()
+    {
+        LruCache<Integer, Integer> myLargeCache = new LruCache<Integer, Integer>(200000);
+
+        for(int i = 0; i < 200000; i++)
+        {
+            myLargeCache.put(i, i);
+        }
+        for(int i = 0; i < 1000000; i++)
+        {
+            myLargeCache.get(i % 200000);
+        }
+        assertTrue("Every lookup should have hit.",
+                   myLargeCache.getHitCount() == 1000000 && myLargeCache.getEvictionCount() == 0);
+    }
+}
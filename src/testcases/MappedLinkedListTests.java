@@ -0,0 +1,163 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import structures.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the MappedLinkedList class.
+ */
+
+public class MappedLinkedListTests
+{
+    private static final RecordCodec<Long> LONG_CODEC = new RecordCodec<Long>()
+    {
+        public int recordSize()
+        {
+            return 8;
+        }
+
+        public void write(Long datum, ByteBuffer buffer, int offset)
+        {
+            buffer.putLong(offset, datum);
+        }
+
+        public Long read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getLong(offset);
+        }
+    };
+
+    private Path myDirectory;
+    private Path myPath;
+    private MappedLinkedList<Long> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        myDirectory = Files.createTempDirectory("mapped");
+        myPath = myDirectory.resolve("list");
+        myLinkedList = MappedLinkedList.open(myPath, LONG_CODEC);
+    }
+
+    @After
+    public void tearDown() throws IOException
+    {
+        myLinkedList.close();
+        Files.deleteIfExists(myPath);
+        Files.deleteIfExists(myDirectory.resolve("list.log"));
+        Files.delete(myDirectory);
+    }
+
+    /**
+     * Checks that adding and removing elements keeps the same order as {@link LinkedList} would.
+     */
+    @Test
+    public void testIfMappedListOperations()
+    {
+        myLinkedList.addFirst(2L);
+        myLinkedList.addFirst(1L);
+        myLinkedList.addLast(3L);
+        myLinkedList.addLast(4L);
+
+        // The list is now 1 -> 2 -> 3 -> 4
+        myCheck = (myLinkedList.toString().equals("head ->1 -> 2 -> 3 -> 4 -> |||") &&
+                   myLinkedList.indexOf(3L) == 2 && myLinkedList.contains(4L) && !myLinkedList.contains(5L) &&
+                   myLinkedList.size() == 4);
+
+        myCheck = (myCheck && myLinkedList.remove(2L) && !myLinkedList.remove(2L) &&
+                   myLinkedList.removeLast() == 4L && myLinkedList.getLast() == 3L &&
+                   myLinkedList.removeFirst() == 1L && myLinkedList.getFirst() == 3L && myLinkedList.size() == 1);
+
+        assertTrue("The mapped list should keep its elements in order.", myCheck);
+    }
+
+    /**
+     * Checks that a list closed and opened again holds the same elements, spread over several chunks
+     * and reusing the slots of removed nodes, and that the log is empty after a clean close.
+     */
+    @Test
+    public void testIfListSurvivesReopening() throws IOException
+    {
+        for(long i = 0; i < 100000; i++)
+        {
+            myLinkedList.addLast(i);
+        }
+        for(long i = 0; i < 1000; i++)
+        {
+            myLinkedList.removeFirst();
+            myLinkedList.addFirst(-i);
+        }
+        String myBefore = myLinkedList.toString();
+        myLinkedList.close();
+
+        myCheck = (Files.size(myDirectory.resolve("list.log")) == 0);
+        myLinkedList = MappedLinkedList.open(myPath, LONG_CODEC);
+
+        myCheck = (myCheck && myLinkedList.size() == 100000 && myLinkedList.getFirst() == -999L &&
+                   myLinkedList.getLast() == 99999L && myLinkedList.toString().equals(myBefore) &&
+                   Files.size(myPath) <= MappedLinkedList.HEADER_SIZE + 2 * (1 << 16) * 12);
+
+        assertTrue("The reopened list should hold the same elements.", myCheck);
+    }
+
+    /**
+     * Checks that changes left in the log by a list that was never closed are replayed, and that a frame
+     * cut short at the end of the log is dropped.
+     */
+    @Test
+    public void testIfLogIsReplayedAfterCrash() throws IOException
+    {
+        MappedLinkedList<Long> myCrashedList = MappedLinkedList.open(myDirectory.resolve("crashed"), LONG_CODEC);
+        Path myLog = myDirectory.resolve("crashed.log");
+
+        myCrashedList.addLast(1L);
+        myCrashedList.addLast(2L);
+        myCrashedList.addFirst(0L);
+        myCrashedList.remove(1L);
+        myCrashedList.sync();
+
+        // A crash part way through appending a frame leaves its first bytes behind.
+        try(FileChannel myChannel = FileChannel.open(myLog, StandardOpenOption.WRITE, StandardOpenOption.APPEND))
+        {
+            myChannel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 30, 1, 0}));
+        }
+        myCheck = (Files.size(myLog) > 0);
+
+        MappedLinkedList<Long> myRecoveredList = MappedLinkedList.open(myDirectory.resolve("crashed"), LONG_CODEC);
+        myCheck = (myCheck && myRecoveredList.toString().equals("head ->0 -> 2 -> |||") &&
+                   myRecoveredList.size() == 2 && Files.size(myLog) == 0);
+        myRecoveredList.addLast(3L);
+        myCheck = (myCheck && myRecoveredList.getLast() == 3L);
+        myRecoveredList.close();
+
+        Files.delete(myDirectory.resolve("crashed"));
+        Files.delete(myLog);
+
+        assertTrue("The recovered list should hold every complete change.", myCheck);
+    }
+
+    /**
+     * Checks that a list cannot be used once it is closed.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testIfClosedListIsUnusable() throws IOException
+    {
+        myLinkedList.addLast(1L);
+        myLinkedList.close();
+
+        myLinkedList.getFirst();
+    }
+}
@@ -0,0 +1,143 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import structures.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the OffHeapLinkedList class.
+ */
+
+public class OffHeapLinkedListTests
+{
+    /**
+     * Stores a long as an eight byte record.
+     */
+    private static final RecordCodec<Long> LONG_CODEC = new RecordCodec<Long>()
+    {
+        public int recordSize()
+        {
+            return 8;
+        }
+
+        public void write(Long datum, ByteBuffer buffer, int offset)
+        {
+            buffer.putLong(offset, datum);
+        }
+
+        public Long read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getLong(offset);
+        }
+    };
+
+    private OffHeapLinkedList<Long> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp()
+    {
+        myLinkedList = new OffHeapLinkedList<Long>(LONG_CODEC);
+    }
+
+    @After
+    public void tearDown()
+    {
+        myLinkedList.close();
+    }
+
+    /**
+     * Checks that adding, inserting and removing elements keeps the same order as {@link LinkedList} would.
+     */
+    @Test
+    public void testIfOffHeapListOperations()
+    {
+        myLinkedList.addFirst(2L);
+        myLinkedList.addFirst(1L);
+        myLinkedList.addLast(4L);
+        myLinkedList.insertBefore(3L, 2L);
+
+        // The list is now 1 -> 2 -> 3 -> 4
+        myCheck = (myLinkedList.toString().equals("head ->1 -> 2 -> 3 -> 4 -> |||") &&
+                   myLinkedList.indexOf(3L) == 2 && myLinkedList.contains(4L) && !myLinkedList.contains(5L) &&
+                   !myLinkedList.insertBefore(9L, 5L) && myLinkedList.size() == 4);
+
+        myCheck = (myCheck && myLinkedList.remove(2L) && !myLinkedList.remove(2L) &&
+                   myLinkedList.removeLast() == 4L && myLinkedList.getLast() == 3L &&
+                   myLinkedList.removeFirst() == 1L && myLinkedList.getFirst() == 3L && myLinkedList.size() == 1);
+
+        assertTrue("The off heap list should keep its elements in order.", myCheck);
+    }
+
+    /**
+     * Checks that the list grows over several buffers and reuses the slots of removed nodes.
+     */
+    @Test
+    public void testIfGrowsAndReusesSlots()
+    {
+        int myCount = OffHeapLinkedList.MAX_SLOTS_PER_CHUNK * 2 + 10;
+
+        for(long i = 0; i < myCount; i++)
+        {
+            myLinkedList.addLast(i);
+        }
+        // Free the slots of the first half of the list, then fill them again from the tail.
+        myCheck = true;
+        for(long i = 0; i < myCount / 2; i++)
+        {
+            myCheck = (myCheck && myLinkedList.removeFirst() == i);
+        }
+        for(long i = myCount; i < myCount + myCount / 2; i++)
+        {
+            myLinkedList.addLast(i);
+        }
+
+        myCheck = (myCheck && myLinkedList.size() == myCount && myLinkedList.getFirst() == myCount / 2 &&
+                   myLinkedList.getLast() == myCount + myCount / 2 - 1 &&
+                   myLinkedList.indexOf((long) myCount) == myCount - myCount / 2);
+
+        assertTrue("Every element should still be found after the list has grown.", myCheck);
+    }
+
+    /**
+     * Checks that an empty list returns null like {@link LinkedList} does.
+     */
+    @Test
+    public void testIfEmptyListReturnsNull()
+    {
+        myCheck = (myLinkedList.getFirst() == null && myLinkedList.removeLast() == null &&
+                   !myLinkedList.contains(null) && myLinkedList.indexOf(null) == -1);
+
+        assertTrue("An empty list should have nothing to return.", myCheck);
+    }
+
+    /**
+     * Checks that a closed list can no longer be used.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testIfClosedListThrows()
+    {
+        myLinkedList.addLast(1L);
+        myLinkedList.close();
+
+        myCheck = !myLinkedList.isOpen();
+        myLinkedList.contains(1L);
+    }
+
+    /**
+     * Checks that the size of a closed list cannot be read either.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testIfClosedListSizeThrows()
+    {
+        myLinkedList.addLast(1L);
+        myLinkedList.close();
+        myLinkedList.size();
+    }
+}
@@ -0,0 +1,89 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import structures.*;
+
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the IntLinkedList,
+ *  LongLinkedList and DoubleLinkedList classes.
+ */
+
+public class PrimitiveLinkedListTests
+{
+    private boolean myCheck;
+
+    /**
+     * Checks that adding, inserting and removing values in an {@link IntLinkedList} keeps the
+     * same order as {@link LinkedList} would.
+     */
+    @Test
+    public void testIfIntListOperations()
+    {
+        IntLinkedList myIntList = new IntLinkedList();
+
+        myIntList.addFirst(2);
+        myIntList.addFirst(1);
+        myIntList.addLast(4);
+        myIntList.insertBefore(3, 2);
+
+        // The list is now 1 -> 2 -> 3 -> 4
+        myCheck = (myIntList.toString().equals("head ->1 -> 2 -> 3 -> 4 -> |||") &&
+                   myIntList.indexOf(3) == 2 && myIntList.contains(4) && !myIntList.contains(5) &&
+                   !myIntList.insertBefore(9, 5) && myIntList.size() == 4);
+
+        myCheck = (myCheck && myIntList.remove(2) && !myIntList.remove(2) &&
+                   myIntList.removeLast() == 4 && myIntList.getLast() == 3 &&
+                   myIntList.removeFirst() == 1 && myIntList.getFirst() == 3 && myIntList.size() == 1);
+
+        assertTrue("The int list should keep its values in order.", myCheck);
+    }
+
+    /**
+     * Checks that inserting after the tail of a {@link LongLinkedList} makes the new value the tail.
+     */
+    @Test
+    public void testIfLongListInsertAfterTail()
+    {
+        LongLinkedList myLongList = new LongLinkedList();
+
+        myLongList.addLast(10000000000L);
+        myLongList.insertBefore(20000000000L, 10000000000L);
+        myLongList.addLast(30000000000L);
+
+        myCheck = (myLongList.getLast() == 30000000000L && myLongList.indexOf(20000000000L) == 1 &&
+                   myLongList.remove(30000000000L) && myLongList.getLast() == 20000000000L);
+
+        assertTrue("The long list should follow its tail.", myCheck);
+    }
+
+    /**
+     * Checks that a {@link DoubleLinkedList} compares values the way Double.equals does.
+     */
+    @Test
+    public void testIfDoubleListComparesLikeEquals()
+    {
+        DoubleLinkedList myDoubleList = new DoubleLinkedList();
+
+        myDoubleList.addLast(Double.NaN);
+        myDoubleList.addLast(0.0);
+
+        myCheck = (myDoubleList.contains(Double.NaN) && myDoubleList.indexOf(0.0) == 1 &&
+                   !myDoubleList.contains(-0.0));
+
+        assertTrue("NaN should be found and -0.0 should not match 0.0.", myCheck);
+    }
+
+    /**
+     * Checks that asking an empty primitive list for a value throws rather than making one up.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testIfEmptyListRemoveFirstThrows()
+    {
+        new IntLinkedList().removeFirst();
+    }
+}
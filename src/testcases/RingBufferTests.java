@@ -0,0 +1,118 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the RingBuffer class.
+ */
+
+public class RingBufferTests
+{
+    private RingBuffer<String> myBuffer;
+
+    @Before
+    public void setUp()
+    {
+        myBuffer = new RingBuffer<String>(3);
+    }
+
+    /**
+     * Checks that a full buffer overwrites its oldest element and keeps the last three in order.
+     */
+    @Test
+    public void testIfFullBufferOverwritesOldest()
+    {
+        assertTrue("Nothing should be overwritten while there is room.",
+                   myBuffer.addLast("Bailey") == null && myBuffer.addLast("Mimi") == null
+                   && myBuffer.addLast("Sam") == null && myBuffer.isFull());
+        assertTrue("Bailey should be overwritten first.", myBuffer.addLast("Kim").equals("Bailey"));
+        assertTrue("Mimi should be overwritten next.", myBuffer.addLast("Josh").equals("Mimi"));
+
+        assertTrue("The buffer should hold the last three in order.",
+                   myBuffer.toString().equals("head ->Sam -> Kim -> Josh -> |||") && myBuffer.size() == 3
+                   && myBuffer.getFirst().equals("Sam") && myBuffer.getLast().equals("Josh")
+                   && myBuffer.get(1).equals("Kim") && myBuffer.indexOf("Josh") == 2 && !myBuffer.contains("Mimi"));
+    }
+
+    /**
+     * Checks removing from both ends across the wrap of the array, and that an empty buffer
+     * returns null like LinkedList does.
+     */
+    @Test
+    public void testIfRemovingWrapsAround()
+    {
+        myBuffer.addLast("Bailey");
+        myBuffer.addLast("Mimi");
+        myBuffer.addLast("Sam");
+        myBuffer.addLast("Kim");
+
+        assertTrue("Mimi should be first.", myBuffer.removeFirst().equals("Mimi"));
+        assertTrue("Kim should be last.", myBuffer.removeLast().equals("Kim"));
+        myBuffer.addFirst("Josh");
+        myBuffer.addLast("Lee");
+        assertTrue("The buffer should read around the wrap.",
+                   myBuffer.toString().equals("head ->Josh -> Sam -> Lee -> |||"));
+        assertTrue("Adding to the front of a full buffer should overwrite the last.",
+                   myBuffer.addFirst("Ann").equals("Lee") && myBuffer.getLast().equals("Sam"));
+
+        myBuffer.clear();
+        assertTrue("An empty buffer should return null.",
+                   myBuffer.removeFirst() == null && myBuffer.removeLast() == null && myBuffer.getFirst() == null
+                   && myBuffer.getLast() == null && myBuffer.size() == 0);
+    }
+
+    /**
+     * Checks that an out of range position is rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIfGetChecksIndex()
+    {
+        myBuffer.addLast("Bailey");
+        myBuffer.get(1);
+    }
+
+    /**
+     * Checks that an iterator fails once the buffer is changed under it.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIfIteratorFailsFast()
+    {
+        Iterator<String> myIterator;
+
+        myBuffer.addLast("Bailey");
+        myBuffer.addLast("Mimi");
+        myIterator = myBuffer.iterator();
+        myIterator.next();
+        myBuffer.addLast("Sam");
+        myIterator.next();
+    }
+
+    /**
+     * Checks that a long rolling window keeps exactly the most recent elements.
+     */
+    @Test(timeout = 5000)
+    public void testIfRollingWindowKeepsMostRecent()
+    {
+        RingBuffer<Integer> myWindow = new RingBuffer<Integer>(1000);
+        long mySum = 0;
+
+        for(int i = 0; i < 1000000; i++)
+        {
+            myWindow.addLast(i);
+        }
+        for(int myValue : myWindow)
+        {
+            mySum += myValue;
+        }
+        assertTrue("The window should hold 999000 to 999999.",
+                   myWindow.getFirst() == 999000 && myWindow.getLast() == 999999 && mySum == 999499500L);
+    }
+}
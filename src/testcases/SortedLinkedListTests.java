@@ -0,0 +1,150 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the SortedLinkedList class.
+ */
+
+public class SortedLinkedListTests
+{
+    private SortedLinkedList<String> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp()
+    {
+        myLinkedList = new SortedLinkedList<String>();
+    }
+
+    /**
+     * Checks that data added in any order come out sorted, with first, last and index in agreement.
+     */
+    @Test
+    public void testIfDataAreSorted()
+    {
+        for(String myName : Arrays.asList("Mimi", "Bailey", "Sam", "Kim", "Matthew"))
+        {
+            myLinkedList.add(myName);
+        }
+
+        myCheck = (myLinkedList.toString().equals("head ->Bailey -> Kim -> Matthew -> Mimi -> Sam -> |||") &&
+                   myLinkedList.getFirst() == "Bailey" && myLinkedList.getLast() == "Sam" &&
+                   myLinkedList.indexOf("Mimi") == 3 && myLinkedList.indexOf("Pug") == -1 &&
+                   myLinkedList.contains("Kim") && !myLinkedList.contains("Pug") && myLinkedList.size() == 5);
+
+        assertTrue("The data should be kept in sorted order.", myCheck);
+    }
+
+    /**
+     * Checks that a comparator decides the order and that data equal by the comparator are kept in the
+     * order they were added.
+     */
+    @Test
+    public void testIfComparatorOrdersAndKeepsEqualDataStable()
+    {
+        SortedLinkedList<String> myByLength = new SortedLinkedList<String>(Comparator.comparingInt(String::length));
+
+        for(String myName : Arrays.asList("Mimi", "Sam", "Bailey", "Kim", "Josh"))
+        {
+            myByLength.add(myName);
+        }
+
+        myCheck = (myByLength.toString().equals("head ->Sam -> Kim -> Mimi -> Josh -> Bailey -> |||") &&
+                   myByLength.remove("Pug") && myByLength.getFirst() == "Kim" &&
+                   myByLength.removeLast() == "Bailey" && myByLength.getLast() == "Josh");
+
+        assertTrue("The comparator should decide the order of the data.", myCheck);
+    }
+
+    /**
+     * Checks a long series of random additions and removals against a sorted {@link ArrayList}, along with
+     * range queries over the result.
+     */
+    @Test
+    public void testIfMatchesSortedArrayList()
+    {
+        SortedLinkedList<Integer> myIntegerList = new SortedLinkedList<Integer>();
+        List<Integer> myExpected = new ArrayList<Integer>();
+        Random myRandom = new Random(11);
+
+        myCheck = true;
+        for(int i = 0; i < 20000; i++)
+        {
+            int myValue = myRandom.nextInt(2000);
+
+            if(myRandom.nextInt(3) == 0)
+            {
+                myCheck = (myCheck && myIntegerList.remove(myValue) == myExpected.remove((Integer) myValue));
+            }
+            else if(myRandom.nextInt(20) == 0 && !myExpected.isEmpty())
+            {
+                myCheck = (myCheck && myIntegerList.removeFirst().equals(myExpected.remove(0)) &&
+                           myIntegerList.removeLast().equals(myExpected.remove(myExpected.size() - 1)));
+            }
+            else
+            {
+                myIntegerList.add(myValue);
+                myExpected.add(myValue);
+            }
+            Collections.sort(myExpected);
+        }
+
+        List<Integer> myActual = new ArrayList<Integer>();
+        for(Integer myValue : myIntegerList)
+        {
+            myActual.add(myValue);
+        }
+
+        List<Integer> myRange = new ArrayList<Integer>();
+        for(Integer myValue : myExpected)
+        {
+            if(myValue >= 500 && myValue < 700)
+            {
+                myRange.add(myValue);
+            }
+        }
+
+        myCheck = (myCheck && myActual.equals(myExpected) && myIntegerList.size() == myExpected.size() &&
+                   myIntegerList.range(500, 700).equals(myRange));
+
+        assertTrue("The sorted list should hold the same data as a sorted array list.", myCheck);
+    }
+
+    /**
+     * Checks that adding to and searching a large list does not walk it. Two hundred thousand random
+     * additions and lookups would take minutes if each one walked the list.
+     */
+    @Test(timeout = 5000)
+    public void testIfSearchCostIsLogarithmic()
+    {
+        SortedLinkedList<Integer> myIntegerList = new SortedLinkedList<Integer>();
+        Random myRandom = new Random(3);
+
+        for(int i = 0; i < 200000; i++)
+        {
+            myIntegerList.add(myRandom.nextInt());
+        }
+
+        myCheck = true;
+        myRandom = new Random(3);
+        for(int i = 0; i < 200000; i++)
+        {
+            myCheck = (myCheck && myIntegerList.contains(myRandom.nextInt()));
+        }
+
+        assertTrue("Every added value should have been found.", myCheck);
+    }
+}
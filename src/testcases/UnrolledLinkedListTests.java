@@ -0,0 +1,178 @@
+package testcases;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import structures.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test cases utilized in ensuring the quality of the UnrolledLinkedList class.
+ */
+
+public class UnrolledLinkedListTests
+{
+    private UnrolledLinkedList<String> myLinkedList;
+    private boolean myCheck;
+
+    @Before
+    public void setUp()
+    {
+        myLinkedList = new UnrolledLinkedList<String>();
+    }
+
+    /**
+     * Checks that the basic operations of an unrolled list give the same answers as those of
+     * a {@link LinkedList} holding the same nodes.
+     */
+    @Test
+    public void testIfSameResultsAsLinkedList()
+    {
+        LinkedList<String> myReferenceList = new LinkedList<String>();
+
+        // Add/create the same nodes to both lists
+        for(String myName : Arrays.asList("Bailey", "Mimi", "Matthew", "Kim"))
+        {
+            myLinkedList.addFirst(myName);
+            myReferenceList.addFirst(myName);
+        }
+        myLinkedList.insertBefore("Pug", "Mimi");
+        myReferenceList.insertBefore("Pug", "Mimi");
+        myLinkedList.addLast("Sam");
+        myReferenceList.addLast("Sam");
+
+        myCheck = (myLinkedList.toString().equals(myReferenceList.toString()) &&
+                   myLinkedList.indexOf("Pug") == myReferenceList.indexOf("Pug") &&
+                   myLinkedList.size() == myReferenceList.size() &&
+                   myLinkedList.getFirst() == myReferenceList.getFirst() &&
+                   myLinkedList.getLast() == myReferenceList.getLast());
+
+        assertTrue("The unrolled list should match the linked list.", myCheck);
+    }
+
+    /**
+     * Checks the empty list cases, which should behave the same way as in {@link LinkedList}.
+     */
+    @Test
+    public void testIfEmptyList()
+    {
+        myCheck = (myLinkedList.contains(null) && myLinkedList.indexOf(null) == -1 &&
+                   myLinkedList.removeFirst() == null && myLinkedList.removeLast() == null &&
+                   myLinkedList.getFirst() == null && myLinkedList.getLast() == null &&
+                   !myLinkedList.remove("Bailey") && !myLinkedList.insertBefore("Bailey", null) &&
+                   myLinkedList.size() == 0 && myLinkedList.toString().equals("head ->|||"));
+
+        assertTrue("An empty unrolled list should have nothing to return or remove.", myCheck);
+    }
+
+    /**
+     * Checks that nodes are split and merged correctly by comparing a long series of random
+     * insertions and removals against an {@link ArrayList}.
+     */
+    @Test
+    public void testIfSplitAndMergeKeepOrder()
+    {
+        UnrolledLinkedList<Integer> myIntegerList = new UnrolledLinkedList<Integer>();
+        List<Integer> myExpected = new ArrayList<Integer>();
+        Random myRandom = new Random(7);
+
+        myCheck = true;
+        for(int i = 0; i < 5000; i++)
+        {
+            int myChoice = myRandom.nextInt(6);
+
+            if(myChoice == 0)
+            {
+                myIntegerList.addFirst(i);
+                myExpected.add(0, i);
+            }
+            else if(myChoice == 1)
+            {
+                myIntegerList.addLast(i);
+                myExpected.add(i);
+            }
+            else if(myChoice == 2 && !myExpected.isEmpty())
+            {
+                Integer myBefore = myExpected.get(myRandom.nextInt(myExpected.size()));
+
+                myIntegerList.insertBefore(i, myBefore);
+                myExpected.add(myExpected.indexOf(myBefore) + 1, i);
+            }
+            else if(myChoice == 3 && !myExpected.isEmpty())
+            {
+                Integer myRemove = myExpected.get(myRandom.nextInt(myExpected.size()));
+
+                myCheck = (myCheck && myIntegerList.remove(myRemove));
+                myExpected.remove(myRemove);
+            }
+            else if(myChoice == 4 && !myExpected.isEmpty())
+            {
+                myCheck = (myCheck && myIntegerList.removeFirst().equals(myExpected.remove(0)));
+            }
+            else if(myChoice == 5 && !myExpected.isEmpty())
+            {
+                myCheck = (myCheck && myIntegerList.removeLast().equals(myExpected.remove(myExpected.size() - 1)));
+            }
+        }
+
+        for(int i = 0; i < myExpected.size(); i++)
+        {
+            myCheck = (myCheck && myIntegerList.indexOf(myExpected.get(i)) == i);
+        }
+
+        assertTrue("The unrolled list should keep every element in order.", myCheck && myIntegerList.size() == myExpected.size());
+    }
+
+    /**
+     * Checks that {@link UnrolledLinkedList#removeIf} and {@link UnrolledLinkedList#removeAll} remove
+     * every match across many nodes and leave the rest in order.
+     */
+    @Test
+    public void testIfRemoveIfAndRemoveAll()
+    {
+        UnrolledLinkedList<Integer> myIntegerList = new UnrolledLinkedList<Integer>();
+
+        for(int i = 0; i < 100; i++)
+        {
+            myIntegerList.addLast(i);
+        }
+
+        // Remove every multiple of three, then the numbers from 90 upwards.
+        myCheck = myIntegerList.removeIf(datum -> datum % 3 == 0);
+        myCheck = (myCheck && myIntegerList.removeAll(Arrays.asList(90, 91, 92, 93, 94, 95, 96, 97, 98, 99)));
+
+        int myExpectedIndex = 0;
+        for(int i = 0; i < 90; i++)
+        {
+            if(i % 3 != 0)
+            {
+                myCheck = (myCheck && myIntegerList.indexOf(i) == myExpectedIndex++);
+            }
+        }
+
+        assertTrue("Every matching element should have been removed.", myCheck && myIntegerList.size() == myExpectedIndex);
+    }
+
+    /**
+     * Checks that {@link UnrolledLinkedList#setFirst} replaces the first element.
+     */
+    @Test
+    public void testIfSetFirst()
+    {
+        myLinkedList.addFirst("Bailey");
+        myLinkedList.addFirst("Sam");
+
+        myLinkedList.setFirst("Bob");
+
+        myCheck = (myLinkedList.getFirst() == "Bob" && myLinkedList.size() == 2 && myLinkedList.getLast() == "Bailey");
+
+        assertTrue("The first element in the list should be that of the datum we set first.", myCheck);
+    }
+
+}